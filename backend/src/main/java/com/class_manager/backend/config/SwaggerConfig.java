@@ -6,11 +6,14 @@ import java.util.Set;
 
 import org.springdoc.core.customizers.OpenApiCustomizer;
 import org.springdoc.core.properties.SwaggerUiConfigProperties;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
+import com.class_manager.backend.decorators.CurrentUser;
+
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
 import io.swagger.v3.oas.annotations.security.SecurityScheme;
 
@@ -29,6 +32,11 @@ import io.swagger.v3.oas.models.servers.Server;
 @SecurityScheme(name = "bearerAuth", type = SecuritySchemeType.HTTP, bearerFormat = "JWT", scheme = "bearer")
 public class SwaggerConfig {
 
+	static {
+		// Resolved from the JWT, not sent by the client
+		SpringDocUtils.getConfig().addAnnotationsToIgnore(CurrentUser.class);
+	}
+
 	private final String apiIssuer;
 	private final Boolean swaggerTryItOutEnabled;
 
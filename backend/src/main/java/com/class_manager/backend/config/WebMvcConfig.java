@@ -0,0 +1,25 @@
+package com.class_manager.backend.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.class_manager.backend.config.security.CurrentUserArgumentResolver;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+	private final CurrentUserArgumentResolver currentUserArgumentResolver;
+
+	public WebMvcConfig(CurrentUserArgumentResolver currentUserArgumentResolver) {
+		this.currentUserArgumentResolver = currentUserArgumentResolver;
+	}
+
+	@Override
+	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+		resolvers.add(currentUserArgumentResolver);
+	}
+
+}
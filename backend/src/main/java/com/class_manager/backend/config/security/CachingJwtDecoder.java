@@ -0,0 +1,74 @@
+package com.class_manager.backend.config.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import com.class_manager.backend.utils.BoundedTtlCache;
+
+/**
+ * Remembers the tokens already decoded and validated by another decoder, so
+ * the same access token, sent on every request for its whole lifetime, has
+ * its signature verified and its claims validated only once in a while.
+ *
+ * Tokens are kept by the SHA-256 digest of their value, never beyond their
+ * expiration. A cached token skips the subject validation, so the tokens of
+ * a user are dropped whenever the user changes, and every entry expires
+ * after the same time as the {@link PrincipalCache}.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+	private final JwtDecoder delegate;
+	private final BoundedTtlCache<String, Jwt> tokens;
+
+	public CachingJwtDecoder(JwtDecoder delegate, int maxSize, long ttlSeconds) {
+		this.delegate = delegate;
+		this.tokens = new BoundedTtlCache<>(maxSize, ttlSeconds, TimeUnit.SECONDS);
+	}
+
+	@Override
+	public Jwt decode(String token) throws JwtException {
+		String key = digest(token);
+		Jwt jwt = tokens.get(key, k -> delegate.decode(token));
+
+		if (jwt.getExpiresAt() != null && !Instant.now().isBefore(jwt.getExpiresAt())) {
+			// Decoded again so the delegate applies its clock skew and reports the expiration
+			tokens.invalidate(key);
+			return delegate.decode(token);
+		}
+
+		return jwt;
+	}
+
+	/**
+	 * Drops the cached tokens of a user.
+	 *
+	 * @param subject the subject of the tokens, the user ID
+	 */
+	public void invalidateSubject(String subject) {
+		tokens.invalidateIf(jwt -> subject.equals(jwt.getSubject()));
+	}
+
+	public BoundedTtlCache.Stats stats() {
+		return tokens.stats();
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private static String digest(String token) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+			return Base64.getEncoder().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
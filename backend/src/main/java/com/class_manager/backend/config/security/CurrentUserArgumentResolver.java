@@ -0,0 +1,61 @@
+package com.class_manager.backend.config.security;
+
+import java.security.Principal;
+import java.util.UUID;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.class_manager.backend.decorators.CurrentUser;
+import com.class_manager.backend.exceptions.UnauthorizedException;
+import com.class_manager.backend.model.User;
+import com.class_manager.backend.repository.UserRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolves the {@link CurrentUser} parameters from the subject of the JWT.
+ * The loaded user is kept in the request, so it is queried once however many
+ * times it is resolved during the request.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+	private static final String CURRENT_USER_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".user";
+
+	private final UserRepository userRepository;
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return parameter.hasParameterAnnotation(CurrentUser.class)
+				&& User.class.isAssignableFrom(parameter.getParameterType());
+	}
+
+	@Override
+	public User resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+			NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+		User user = (User) webRequest.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+		if (user != null)
+			return user;
+
+		Principal principal = webRequest.getUserPrincipal();
+
+		if (principal == null)
+			throw new UnauthorizedException();
+
+		user = userRepository.findById(UUID.fromString(principal.getName()))
+				.orElseThrow(() -> new EntityNotFoundException("User not found"));
+
+		webRequest.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+		return user;
+	}
+
+}
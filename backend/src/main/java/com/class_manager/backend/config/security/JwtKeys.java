@@ -0,0 +1,208 @@
+package com.class_manager.backend.config.security;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.core.io.Resource;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import com.class_manager.backend.exceptions.AppPropertiesConfigException;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+
+/**
+ * The keys signing and verifying the JWTs.
+ *
+ * Tokens are signed with RS256 or ES256 by a single key and carry its ID, the
+ * RFC 7638 thumbprint, in the {@code kid} header. They are verified against
+ * that key and any previous public keys, so the signing key can be rotated
+ * without ending the live sessions: the old public key is kept for
+ * verification until the last tokens it signed expire.
+ */
+public class JwtKeys {
+
+	private static final Set<JWSAlgorithm> SUPPORTED_ALGORITHMS = Set.of(JWSAlgorithm.RS256, JWSAlgorithm.ES256);
+
+	private final JWSAlgorithm algorithm;
+	private final JWK signingKey;
+	private final JWKSet verificationKeys;
+
+	private JwtKeys(JWSAlgorithm algorithm, JWK signingKey, List<JWK> previousKeys) {
+		List<JWK> publicKeys = new ArrayList<>();
+		publicKeys.add(signingKey.toPublicJWK());
+		previousKeys.forEach(key -> publicKeys.add(key.toPublicJWK()));
+
+		this.algorithm = algorithm;
+		this.signingKey = signingKey;
+		this.verificationKeys = new JWKSet(publicKeys);
+	}
+
+	/**
+	 * @param algorithm    the signing algorithm, RS256 or ES256
+	 * @param signingKey   the key pair signing the tokens
+	 * @param previousKeys public keys of previous signing keys, whose tokens are
+	 *                     still accepted
+	 */
+	public static JwtKeys of(JWSAlgorithm algorithm, JWK signingKey, List<JWK> previousKeys) {
+		if (!SUPPORTED_ALGORITHMS.contains(algorithm))
+			throw new AppPropertiesConfigException("Unsupported JWT algorithm " + algorithm + ", use RS256 or ES256");
+
+		if (!algorithmOf(signingKey).equals(algorithm))
+			throw new AppPropertiesConfigException("The JWT signing key is not a " + algorithm + " key");
+
+		return new JwtKeys(algorithm, signingKey, previousKeys);
+	}
+
+	/**
+	 * Reads the keys from PEM files: a PKCS#8 private key and X.509 public
+	 * keys, as written by {@code openssl genpkey} and {@code openssl pkey -pubout}.
+	 */
+	public static JwtKeys load(String algorithm, Resource privateKey, Resource publicKey,
+			List<Resource> previousPublicKeys) {
+		List<JWK> previousKeys = new ArrayList<>();
+
+		for (Resource previousPublicKey : previousPublicKeys) {
+			previousKeys.add(toJwk(readPublicKey(previousPublicKey), null));
+		}
+
+		return of(JWSAlgorithm.parse(algorithm), toJwk(readPublicKey(publicKey), readPrivateKey(privateKey)),
+				previousKeys);
+	}
+
+	public JWSAlgorithm algorithm() {
+		return algorithm;
+	}
+
+	public String keyId() {
+		return signingKey.getKeyID();
+	}
+
+	/**
+	 * @return the header of the tokens signed by the current key
+	 */
+	public JwsHeader header() {
+		return JwsHeader.with(SignatureAlgorithm.from(algorithm.getName())).keyId(keyId()).build();
+	}
+
+	public JwtEncoder encoder() {
+		return new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(signingKey)));
+	}
+
+	/**
+	 * @return a decoder verifying the signature with the key of the token
+	 *         {@code kid}, or with every key of its algorithm when it has none.
+	 *         The claims are left to the validators set on the decoder.
+	 */
+	public NimbusJwtDecoder decoder() {
+		Set<JWSAlgorithm> algorithms = new HashSet<>();
+		verificationKeys.getKeys().forEach(key -> algorithms.add(algorithmOf(key)));
+
+		DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+		jwtProcessor.setJWSKeySelector(
+				new JWSVerificationKeySelector<>(algorithms, new ImmutableJWKSet<>(verificationKeys)));
+		jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+		});
+
+		return new NimbusJwtDecoder(jwtProcessor);
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private static JWSAlgorithm algorithmOf(JWK key) {
+		if (key instanceof RSAKey)
+			return JWSAlgorithm.RS256;
+
+		if (key instanceof ECKey ecKey && Curve.P_256.equals(ecKey.getCurve()))
+			return JWSAlgorithm.ES256;
+
+		throw new AppPropertiesConfigException("Unsupported JWT key " + key.getKeyType() + ", use RSA or EC P-256");
+	}
+
+	private static JWK toJwk(PublicKey publicKey, PrivateKey privateKey) {
+		try {
+			if (publicKey instanceof RSAPublicKey rsaPublicKey) {
+				return new RSAKey.Builder(rsaPublicKey)
+						.privateKey((RSAPrivateKey) privateKey)
+						.keyIDFromThumbprint()
+						.build();
+			}
+
+			ECPublicKey ecPublicKey = (ECPublicKey) publicKey;
+			return new ECKey.Builder(Curve.forECParameterSpec(ecPublicKey.getParams()), ecPublicKey)
+					.privateKey((ECPrivateKey) privateKey)
+					.keyIDFromThumbprint()
+					.build();
+		} catch (JOSEException | ClassCastException | IllegalArgumentException e) {
+			throw new AppPropertiesConfigException("Invalid JWT key pair: " + e.getMessage());
+		}
+	}
+
+	private static PublicKey readPublicKey(Resource resource) {
+		byte[] der = readPem(resource);
+
+		for (String keyAlgorithm : List.of("RSA", "EC")) {
+			try {
+				return KeyFactory.getInstance(keyAlgorithm).generatePublic(new X509EncodedKeySpec(der));
+			} catch (GeneralSecurityException e) {
+				// Try the next key type
+			}
+		}
+
+		throw new AppPropertiesConfigException("Invalid JWT public key " + resource.getDescription());
+	}
+
+	private static PrivateKey readPrivateKey(Resource resource) {
+		byte[] der = readPem(resource);
+
+		for (String keyAlgorithm : List.of("RSA", "EC")) {
+			try {
+				return KeyFactory.getInstance(keyAlgorithm).generatePrivate(new PKCS8EncodedKeySpec(der));
+			} catch (GeneralSecurityException e) {
+				// Try the next key type
+			}
+		}
+
+		throw new AppPropertiesConfigException("Invalid JWT private key " + resource.getDescription()
+				+ ", it must be a PKCS#8 PEM file");
+	}
+
+	private static byte[] readPem(Resource resource) {
+		try (InputStream input = resource.getInputStream()) {
+			String pem = new String(input.readAllBytes(), StandardCharsets.US_ASCII);
+			return Base64.getMimeDecoder().decode(pem.replaceAll("-----[A-Z ]+-----", ""));
+		} catch (IOException | IllegalArgumentException e) {
+			throw new AppPropertiesConfigException("Could not read the JWT key " + resource.getDescription() + ": "
+					+ e.getMessage());
+		}
+	}
+
+}
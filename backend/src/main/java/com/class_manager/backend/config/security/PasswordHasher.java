@@ -0,0 +1,107 @@
+package com.class_manager.backend.config.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Hashes and checks passwords with BCrypt on a dedicated pool with a bounded
+ * queue, so a burst of logins uses at most the pool threads' worth of CPU and
+ * the other requests keep being served. A call beyond the queue capacity is
+ * rejected instead of piling up.
+ */
+@Component
+public class PasswordHasher {
+
+	private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$");
+
+	private final BCryptPasswordEncoder passwordEncoder;
+	private final int strength;
+	private final ThreadPoolExecutor executor;
+
+	public PasswordHasher(
+			BCryptPasswordEncoder passwordEncoder,
+			@Value("${security.password.bcrypt-strength}") int strength,
+			@Value("${security.password.hashing.pool-size}") int poolSize,
+			@Value("${security.password.hashing.queue-capacity}") int queueCapacity) {
+		this.passwordEncoder = passwordEncoder;
+		this.strength = strength;
+
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				runnable -> new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet()),
+				new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * @throws RejectedExecutionException if the queue is full
+	 */
+	public String encode(CharSequence rawPassword) {
+		return run(() -> passwordEncoder.encode(rawPassword));
+	}
+
+	/**
+	 * @throws RejectedExecutionException if the queue is full
+	 */
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+	}
+
+	/**
+	 * @param encodedPassword a password hash
+	 * @return whether the hash has a cost other than the configured one, either
+	 *         because the cost was raised or lowered since it was computed
+	 */
+	public boolean needsRehash(String encodedPassword) {
+		if (encodedPassword == null)
+			return false;
+
+		Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+		return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private <T> T run(Callable<T> task) {
+		Future<T> future;
+
+		try {
+			future = executor.submit(task);
+		} catch (RejectedExecutionException e) {
+			throw new RejectedExecutionException("Too many logins in progress, try again later", e);
+		}
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while hashing the password", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause)
+				throw cause;
+
+			throw new IllegalStateException("Could not hash the password", e.getCause());
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+package com.class_manager.backend.config.security;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.class_manager.backend.enums.RoleName;
+import com.class_manager.backend.model.Role;
+import com.class_manager.backend.model.User;
+import com.class_manager.backend.repository.UserRepository;
+import com.class_manager.backend.utils.BoundedTtlCache;
+
+/**
+ * Keeps the active flag and the roles of the users sending requests in memory,
+ * so validating a JWT does not query the database. Entries are invalidated
+ * when the user is changed through the API and expire after a while anyway.
+ */
+@Component
+public class PrincipalCache {
+
+	public record CachedPrincipal(boolean active, Set<RoleName> roles) {
+	}
+
+	private final UserRepository userRepository;
+	private final BoundedTtlCache<UUID, CachedPrincipal> principals;
+
+	public PrincipalCache(
+			UserRepository userRepository,
+			@Value("${security.principal-cache.max-size}") int maxSize,
+			@Value("${security.principal-cache.ttl-seconds}") long ttlSeconds) {
+		this.userRepository = userRepository;
+		this.principals = new BoundedTtlCache<>(maxSize, ttlSeconds, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * @param userId the ID of the user
+	 * @return the user as of at most the cache TTL ago, or {@code null} if it
+	 *         does not exist
+	 */
+	public CachedPrincipal get(UUID userId) {
+		return principals.get(userId, this::load);
+	}
+
+	public void invalidate(UUID userId) {
+		principals.invalidate(userId);
+	}
+
+	public BoundedTtlCache.Stats stats() {
+		return principals.stats();
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private CachedPrincipal load(UUID userId) {
+		return userRepository.findById(userId)
+				.map(PrincipalCache::toPrincipal)
+				.orElse(null);
+	}
+
+	private static CachedPrincipal toPrincipal(User user) {
+		Set<RoleName> roles = EnumSet.noneOf(RoleName.class);
+
+		for (Role role : user.getRoles()) {
+			roles.add(role.getName());
+		}
+
+		return new CachedPrincipal(Boolean.TRUE.equals(user.getActive()), Set.copyOf(roles));
+	}
+
+}
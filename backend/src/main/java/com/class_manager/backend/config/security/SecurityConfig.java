@@ -3,16 +3,13 @@ package com.class_manager.backend.config.security;
 import com.class_manager.backend.config.security.validators.ScopeValidator;
 import com.class_manager.backend.config.security.validators.SubjectValidator;
 
-import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
-
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -28,12 +25,10 @@ import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtIssuerValidator;
 import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @Configuration
@@ -42,20 +37,20 @@ import java.util.List;
 public class SecurityConfig {
 
 	private final String apiIssuer;
-	private final RSAPublicKey publicKey;
-	private final RSAPrivateKey privateKey;
 	private final ScopeValidator scopeValidator;
 	private final SubjectValidator subjectValidator;
+	private final int jwtCacheMaxSize;
+	private final long principalCacheTtlSeconds;
 
 	public SecurityConfig(
-			@Value("${jwt.public.key}") RSAPublicKey publicKey,
-			@Value("${jwt.private.key}") RSAPrivateKey privateKey,
 			@Value("${api.issuer}") String apiIssuer,
+			@Value("${security.jwt-cache.max-size}") int jwtCacheMaxSize,
+			@Value("${security.principal-cache.ttl-seconds}") long principalCacheTtlSeconds,
 			SubjectValidator subjectValidator,
 			ScopeValidator scopeValidator) {
-		this.publicKey = publicKey;
-		this.privateKey = privateKey;
 		this.apiIssuer = apiIssuer;
+		this.jwtCacheMaxSize = jwtCacheMaxSize;
+		this.principalCacheTtlSeconds = principalCacheTtlSeconds;
 		this.subjectValidator = subjectValidator;
 		this.scopeValidator = scopeValidator;
 	}
@@ -79,8 +74,8 @@ public class SecurityConfig {
 		return http.build();
 	}
 
-	private JwtDecoder buildJwtDecoder(List<OAuth2TokenValidator<Jwt>> validators) {
-		NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder.withPublicKey(publicKey).build();
+	private JwtDecoder buildJwtDecoder(JwtKeys jwtKeys, List<OAuth2TokenValidator<Jwt>> validators) {
+		NimbusJwtDecoder jwtDecoder = jwtKeys.decoder();
 		OAuth2TokenValidator<Jwt> combinedValidators = new DelegatingOAuth2TokenValidator<>(validators);
 		jwtDecoder.setJwtValidator(combinedValidators);
 		return jwtDecoder;
@@ -88,34 +83,48 @@ public class SecurityConfig {
 
 	@Bean
 	@Primary
-	JwtDecoder jwtDecoder() {
+	CachingJwtDecoder jwtDecoder(JwtKeys jwtKeys) {
 		List<OAuth2TokenValidator<Jwt>> validators = new ArrayList<>();
 		validators.add(JwtValidators.createDefaultWithIssuer(apiIssuer));
 		validators.add(scopeValidator);
 		validators.add(subjectValidator);
-		return buildJwtDecoder(validators);
+		return new CachingJwtDecoder(buildJwtDecoder(jwtKeys, validators), jwtCacheMaxSize, principalCacheTtlSeconds);
 	}
 
 	@Bean
 	@Qualifier("noExpiresAtValidatorJwtDecoder")
-	JwtDecoder noExpiresAtValidatorJwtDecoder() {
+	JwtDecoder noExpiresAtValidatorJwtDecoder(JwtKeys jwtKeys) {
 		List<OAuth2TokenValidator<Jwt>> validators = new ArrayList<>();
 		validators.add(new JwtIssuerValidator(apiIssuer));
 		validators.add(scopeValidator);
 		validators.add(subjectValidator);
-		return buildJwtDecoder(validators);
+		return buildJwtDecoder(jwtKeys, validators);
+	}
+
+	@Bean
+	JwtKeys jwtKeys(
+			@Value("${jwt.algorithm}") String algorithm,
+			@Value("${jwt.private.key}") Resource privateKey,
+			@Value("${jwt.public.key}") Resource publicKey,
+			@Value("${jwt.previous.public.keys}") String[] previousPublicKeys,
+			ResourceLoader resourceLoader) {
+		List<Resource> previousKeys = Arrays.stream(previousPublicKeys)
+				.map(String::trim)
+				.filter(location -> !location.isEmpty())
+				.map(resourceLoader::getResource)
+				.toList();
+
+		return JwtKeys.load(algorithm, privateKey, publicKey, previousKeys);
 	}
 
 	@Bean
-	JwtEncoder jwtEncoder() {
-		JWK jwk = new RSAKey.Builder(publicKey).privateKey(privateKey).build();
-		var jwks = new ImmutableJWKSet<>(new JWKSet(jwk));
-		return new NimbusJwtEncoder(jwks);
+	JwtEncoder jwtEncoder(JwtKeys jwtKeys) {
+		return jwtKeys.encoder();
 	}
 
 	@Bean
-	BCryptPasswordEncoder bCryptPasswordEncoder() {
-		return new BCryptPasswordEncoder();
+	BCryptPasswordEncoder bCryptPasswordEncoder(@Value("${security.password.bcrypt-strength}") int strength) {
+		return new BCryptPasswordEncoder(strength);
 	}
 
 }
@@ -1,6 +1,7 @@
 package com.class_manager.backend.config.security.validators;
 
 import java.util.List;
+import java.util.Objects;
 
 import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.OAuth2TokenValidator;
@@ -9,26 +10,21 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 
 import com.class_manager.backend.enums.RoleName;
-import com.class_manager.backend.repository.RoleRepository;
 
+/**
+ * Accepts tokens holding at least one known scope. The roles are a fixed enum,
+ * so the scopes are checked in memory.
+ */
 @Component
 public class ScopeValidator implements OAuth2TokenValidator<Jwt> {
 
-	private final RoleRepository roleRepository;
-
-	public ScopeValidator(RoleRepository roleRepository) {
-		this.roleRepository = roleRepository;
-	}
-
 	@Override
 	public OAuth2TokenValidatorResult validate(Jwt token) {
 		String scopeString = token.getClaimAsString("scope");
-		List<String> scopes = List.of(scopeString.split(" "));
 
-		if (scopes != null && !scopes.isEmpty()) {
-			for (String string : scopes) {
-				var role = roleRepository.findByName(RoleName.valueOf(string));
-				if (role.isPresent()) {
+		if (scopeString != null) {
+			for (String scope : scopeString.split(" ")) {
+				if (toRoleName(scope) != null) {
 					return OAuth2TokenValidatorResult.success();
 				}
 			}
@@ -37,4 +33,29 @@ public class ScopeValidator implements OAuth2TokenValidator<Jwt> {
 		return OAuth2TokenValidatorResult.failure(new OAuth2Error("invalid_token", "Invalid scopes", null));
 	}
 
+	/**
+	 * @param token a validated token
+	 * @return the roles named by the scopes of the token
+	 */
+	public static List<RoleName> roleNames(Jwt token) {
+		String scopeString = token.getClaimAsString("scope");
+
+		if (scopeString == null)
+			return List.of();
+
+		return List.of(scopeString.split(" ")).stream()
+				.map(ScopeValidator::toRoleName)
+				.filter(Objects::nonNull)
+				.toList();
+	}
+
+	private static RoleName toRoleName(String scope) {
+		for (RoleName roleName : RoleName.values()) {
+			if (roleName.name().equals(scope))
+				return roleName;
+		}
+
+		return null;
+	}
+
 }
@@ -8,25 +8,40 @@ import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 
-import com.class_manager.backend.repository.UserRepository;
+import com.class_manager.backend.config.security.PrincipalCache;
+import com.class_manager.backend.config.security.PrincipalCache.CachedPrincipal;
 
+/**
+ * Accepts tokens of active users still holding every role of the token
+ * scopes, as seen by the {@link PrincipalCache}.
+ */
 @Component
 public class SubjectValidator implements OAuth2TokenValidator<Jwt> {
 
-    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
     
-    public SubjectValidator(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public SubjectValidator(PrincipalCache principalCache) {
+        this.principalCache = principalCache;
     }
 
     @Override
     public OAuth2TokenValidatorResult validate(Jwt token) {
-        UUID userId = UUID.fromString(token.getSubject());
+        UUID userId = parseSubject(token.getSubject());
+        CachedPrincipal principal = userId != null ? principalCache.get(userId) : null;
 
-        if (userRepository.findById(userId).isPresent())
+        if (principal != null && principal.active()
+                && principal.roles().containsAll(ScopeValidator.roleNames(token)))
             return OAuth2TokenValidatorResult.success();
         
-        return OAuth2TokenValidatorResult.failure(new OAuth2Error("invalid_token", "Invalid scopes", null));
+        return OAuth2TokenValidatorResult.failure(new OAuth2Error("invalid_token", "Invalid subject", null));
+    }
+
+    private static UUID parseSubject(String subject) {
+        try {
+            return subject != null ? UUID.fromString(subject) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
     
 }
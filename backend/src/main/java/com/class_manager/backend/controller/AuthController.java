@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.class_manager.backend.dto.auth.AuthCacheStatsDto;
 import com.class_manager.backend.dto.auth.CreateUserDto;
 import com.class_manager.backend.dto.auth.LoginRequestDto;
 import com.class_manager.backend.dto.auth.LoginResponseDto;
@@ -61,6 +62,16 @@ public class AuthController {
 		return ResponseEntity.ok(userService.findAll());
 	}
 
+	@Operation(summary = "Estatísticas dos caches de autenticação", description = "Este recurso só pode ser usado por usuários administradores e mostra o tamanho, os acertos e as falhas dos caches de tokens verificados e de usuários")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "Success", content = @Content(mediaType = "application/json"))
+	})
+	@GetMapping("/cache-stats")
+	@PreAuthorize("hasAuthority('SCOPE_ADMIN')")
+	public ResponseEntity<AuthCacheStatsDto> findCacheStats() {
+		return ResponseEntity.ok(userService.findAuthCacheStats());
+	}
+
 	@Operation(summary = "Logar usuário", description = "Este recurso realiza o login de um usuário devolvendo 2 tokens, um de acesso e outro para pegar outro token quando o de acesso expirar")
 	@ApiResponses(value = {
 			@ApiResponse(responseCode = "200", description = "Success", content = @Content(mediaType = "application/json", examples = @ExampleObject(value = AuthResponses.LOGIN_SUCESSO))),
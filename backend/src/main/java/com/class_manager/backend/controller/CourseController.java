@@ -6,7 +6,6 @@ import static com.class_manager.backend.utils.UserScopeUtils.isCoordinator;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -16,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.class_manager.backend.decorators.CurrentUser;
 import com.class_manager.backend.dto.model.course.CourseDto;
 import com.class_manager.backend.model.Course;
 import com.class_manager.backend.model.User;
@@ -34,18 +34,16 @@ public class CourseController {
 	private final CourseService courseService;
 	
 	@GetMapping
-	public ResponseEntity<?> findAll(JwtAuthenticationToken token) {
-		User user = courseService.getUserFromToken(token);
-		
+	public ResponseEntity<?> findAll(@CurrentUser User user) {
 		if (isCoordinator(user)) {
-			return ResponseEntity.ok(courseService.findAllByCoordinatorUser(token));
+			return ResponseEntity.ok(courseService.findAllByCoordinatorUser(user));
 		}
 
 		if (isAdmin(user)) {
-			return ResponseEntity.ok(courseService.findAllByAdminUser(token));
+			return ResponseEntity.ok(courseService.findAllByAdminUser(user));
 		}
 		
-		return ResponseEntity.ok(courseService.findAllByUser(token));
+		return ResponseEntity.ok(courseService.findAllByUser(user));
 	}
 
 	@GetMapping("/{id}")
@@ -2,6 +2,8 @@ package com.class_manager.backend.controller;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -15,6 +17,9 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 import com.class_manager.backend.dto.RestErrorMessage;
+import com.class_manager.backend.dto.model.schedule.ConflictReport;
+import com.class_manager.backend.dto.model.schedule.ScheduleConflict;
+import com.class_manager.backend.exceptions.GenerationJobStateException;
 import com.class_manager.backend.exceptions.InvalidScheduleException;
 import com.class_manager.backend.exceptions.JwtTokenValidationException;
 import com.class_manager.backend.exceptions.ResetPasswordTokenInvalidException;
@@ -30,6 +35,11 @@ import lombok.extern.slf4j.Slf4j;
 public class ExceptionHandlerController extends ResponseEntityExceptionHandler {
 
 	private ResponseEntity<RestErrorMessage> buildResponse(HttpStatus status, String message, Throwable throwable) {
+		return buildResponse(status, message, throwable, List.of());
+	}
+
+	private ResponseEntity<RestErrorMessage> buildResponse(HttpStatus status, String message, Throwable throwable,
+			List<ScheduleConflict> conflicts) {
 		if (throwable != null) {
 			String errorMessage = """
 			\n#####################################
@@ -45,7 +55,8 @@ public class ExceptionHandlerController extends ResponseEntityExceptionHandler {
 			logger.error(errorMessage, throwable);
 		}
 		
-        RestErrorMessage response = new RestErrorMessage(LocalDateTime.now(ZoneId.of("America/Sao_Paulo")), status, message);
+        RestErrorMessage response = new RestErrorMessage(LocalDateTime.now(ZoneId.of("America/Sao_Paulo")), status, message,
+                conflicts);
         return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(response);
     }
 
@@ -96,7 +107,20 @@ public class ExceptionHandlerController extends ResponseEntityExceptionHandler {
 
 	@ExceptionHandler(InvalidScheduleException.class)
 	private ResponseEntity<RestErrorMessage> invalidScheduleExceptionHandler(InvalidScheduleException exception) {
-		return buildResponse(HttpStatus.CONFLICT, exception.getMessage(), exception);
+		// A conflict is an expected outcome of editing the timetable, its stack trace is not logged
+		ConflictReport report = exception.getReport();
+		return buildResponse(HttpStatus.CONFLICT, exception.getMessage(), null,
+				report != null ? report.conflicts() : List.of());
+	}
+
+	@ExceptionHandler(GenerationJobStateException.class)
+	private ResponseEntity<RestErrorMessage> generationJobStateExceptionHandler(GenerationJobStateException exception) {
+		return buildResponse(HttpStatus.CONFLICT, exception.getMessage(), null);
+	}
+
+	@ExceptionHandler(RejectedExecutionException.class)
+	private ResponseEntity<RestErrorMessage> rejectedExecutionExceptionHandler(RejectedExecutionException exception) {
+		return buildResponse(HttpStatus.TOO_MANY_REQUESTS, exception.getMessage(), null);
 	}
 
 	@ExceptionHandler(MessagingException.class)
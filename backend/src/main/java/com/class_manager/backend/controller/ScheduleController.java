@@ -1,18 +1,37 @@
 package com.class_manager.backend.controller;
 
+import com.class_manager.backend.dto.model.schedule.CloneSchedulesDto;
+import com.class_manager.backend.dto.model.schedule.CloneSchedulesResponseDto;
+import com.class_manager.backend.dto.model.schedule.CommitScheduleDiffDto;
+import com.class_manager.backend.dto.model.schedule.ConflictScanDto;
 import com.class_manager.backend.dto.model.schedule.CopySchedulesDto;
+import com.class_manager.backend.dto.model.schedule.FeasibleSlotDto;
 import com.class_manager.backend.dto.model.schedule.GenerateSchedulesDto;
 import com.class_manager.backend.dto.model.schedule.GenerateSchedulesResponseDto;
+import com.class_manager.backend.dto.model.schedule.GenerateSemesterSchedulesDto;
+import com.class_manager.backend.dto.model.schedule.GenerateSemesterSchedulesResponseDto;
+import com.class_manager.backend.dto.model.schedule.GenerationJobDto;
+import com.class_manager.backend.dto.model.schedule.RegenerateSchedulesDto;
+import com.class_manager.backend.dto.model.schedule.ScheduleBatchDto;
 import com.class_manager.backend.dto.model.schedule.ScheduleDto;
+import com.class_manager.backend.dto.model.schedule.SchedulePreviewDto;
+import com.class_manager.backend.dto.model.schedule.ScheduleView;
 import com.class_manager.backend.model.Schedule;
+import com.class_manager.backend.service.ScheduleGenerationJobService;
 import com.class_manager.backend.service.ScheduleService;
+import com.class_manager.backend.service.schedule.PublicTimetableCache;
+import com.class_manager.backend.service.schedule.PublicTimetableSnapshot;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -24,28 +43,66 @@ import org.springframework.web.bind.annotation.*;
 public class ScheduleController {
 
 	private final ScheduleService scheduleService;
+	private final ScheduleGenerationJobService scheduleGenerationJobService;
+	private final PublicTimetableCache publicTimetableCache;
 
 	@GetMapping
-	public ResponseEntity<List<Schedule>> findAll(Long semesterId, Long courseId) {
-		return ResponseEntity.ok(scheduleService.findAll(semesterId, courseId));
+	public ResponseEntity<List<ScheduleView>> findAll(Long semesterId, Long courseId) {
+		return ResponseEntity.ok(scheduleService.findAllViews(semesterId, courseId));
 	}
 
+	/**
+	 * Serves the public timetable snapshot. A request whose If-None-Match holds
+	 * the ETag is answered with 304 Not Modified by Spring.
+	 */
 	@GetMapping("/public")
-	public ResponseEntity<List<Schedule>> findAllPublicActualSchedules() {
-		return ResponseEntity.ok(scheduleService.findAllPublicSchedules());
+	public ResponseEntity<byte[]> findAllPublicActualSchedules(
+			@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		PublicTimetableSnapshot snapshot = publicTimetableCache.get();
+		boolean gzip = acceptsGzip(acceptEncoding);
+
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.cacheControl(CacheControl.noCache())
+				.varyBy(HttpHeaders.ACCEPT_ENCODING)
+				.eTag(snapshot.etag(gzip));
+
+		if (gzip)
+			response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+
+		return response.body(snapshot.body(gzip));
 	}
 
 	@GetMapping("/semester/{semesterId}/teacher/{teacherId}")
-	public ResponseEntity<List<Schedule>> findByTeacher(@PathVariable Long semesterId, @PathVariable UUID teacherId) {
+	public ResponseEntity<List<ScheduleView>> findByTeacher(@PathVariable Long semesterId, @PathVariable UUID teacherId) {
 		return ResponseEntity.ok(scheduleService.findByTeacher(semesterId, teacherId));
 	}
 
+	@GetMapping("/semester/{semesterId}/conflicts")
+	@PreAuthorize("hasAuthority('SCOPE_ADMIN') or hasAuthority('SCOPE_COORDINATOR')")
+	public ResponseEntity<ConflictScanDto> scanConflicts(@PathVariable Long semesterId) {
+		return ResponseEntity.ok(scheduleService.scanConflicts(semesterId));
+	}
+
+	@GetMapping("/feasible-slots")
+	@PreAuthorize("hasAuthority('SCOPE_ADMIN') or hasAuthority('SCOPE_COORDINATOR')")
+	public ResponseEntity<List<FeasibleSlotDto>> findFeasibleSlots(@RequestParam Long groupId,
+			@RequestParam Long semesterId, @RequestParam(required = false) Long excludeScheduleId) {
+		return ResponseEntity.ok(scheduleService.findFeasibleSlots(groupId, semesterId, excludeScheduleId));
+	}
+
 	@PostMapping("/create-or-update")
 	@PreAuthorize("hasAuthority('SCOPE_ADMIN') or hasAuthority('SCOPE_COORDINATOR')")
 	public ResponseEntity<Schedule> save(@RequestBody ScheduleDto dto) {
 		return ResponseEntity.status(HttpStatus.CREATED).body(scheduleService.saveOrUpdate(dto));
 	}
 
+	@PostMapping("/batch")
+	@PreAuthorize("hasAuthority('SCOPE_ADMIN') or hasAuthority('SCOPE_COORDINATOR')")
+	public ResponseEntity<List<Schedule>> applyBatch(@RequestBody @Valid ScheduleBatchDto dto) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(scheduleService.applyScheduleBatch(dto));
+	}
+
 	@DeleteMapping("/{id}")
 	@PreAuthorize("hasAuthority('SCOPE_ADMIN') or hasAuthority('SCOPE_COORDINATOR')")
 	public ResponseEntity<Void> delete(@PathVariable Long id) {
@@ -59,10 +116,81 @@ public class ScheduleController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(scheduleService.copySchedulesBySemesterAndCourse(dto));
 	}
 
+	@PostMapping("/clone-schedules")
+	@PreAuthorize("hasAuthority('SCOPE_ADMIN')")
+	public ResponseEntity<CloneSchedulesResponseDto> cloneSchedules(@RequestBody @Valid CloneSchedulesDto dto) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(scheduleService.cloneSchedules(dto));
+	}
+
 	@PostMapping("/generate-schedules")
 	@PreAuthorize("hasAuthority('SCOPE_ADMIN') or hasAuthority('SCOPE_COORDINATOR')")
-	public ResponseEntity<GenerateSchedulesResponseDto> generateSchedules(@RequestBody GenerateSchedulesDto dto) {
+	public ResponseEntity<GenerateSchedulesResponseDto> generateSchedules(@RequestBody @Valid GenerateSchedulesDto dto) {
 		return ResponseEntity.status(HttpStatus.CREATED).body(scheduleService.generateSchedulesForCourseAndSemester(dto));
 	}
-	
+
+	@PostMapping("/generate-schedules/preview")
+	@PreAuthorize("hasAuthority('SCOPE_ADMIN') or hasAuthority('SCOPE_COORDINATOR')")
+	public ResponseEntity<SchedulePreviewDto> previewSchedules(@RequestBody @Valid GenerateSchedulesDto dto) {
+		return ResponseEntity.ok(scheduleService.previewSchedulesForCourseAndSemester(dto));
+	}
+
+	@PostMapping("/generate-schedules/commit")
+	@PreAuthorize("hasAuthority('SCOPE_ADMIN') or hasAuthority('SCOPE_COORDINATOR')")
+	public ResponseEntity<List<Schedule>> commitSchedules(@RequestBody @Valid CommitScheduleDiffDto dto) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(scheduleService.commitScheduleDiff(dto));
+	}
+
+	@PostMapping("/regenerate-schedules")
+	@PreAuthorize("hasAuthority('SCOPE_ADMIN') or hasAuthority('SCOPE_COORDINATOR')")
+	public ResponseEntity<GenerateSchedulesResponseDto> regenerateSchedules(@RequestBody @Valid RegenerateSchedulesDto dto) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(scheduleService.regenerateSchedulesForGroups(dto));
+	}
+
+	@PostMapping("/generate-schedules/semester")
+	@PreAuthorize("hasAuthority('SCOPE_ADMIN')")
+	public ResponseEntity<GenerateSemesterSchedulesResponseDto> generateSemesterSchedules(
+			@RequestBody @Valid GenerateSemesterSchedulesDto dto) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(scheduleService.generateSchedulesForSemester(dto));
+	}
+
+	@PostMapping("/generate-schedules/jobs")
+	@PreAuthorize("hasAuthority('SCOPE_ADMIN') or hasAuthority('SCOPE_COORDINATOR')")
+	public ResponseEntity<GenerationJobDto> submitGenerationJob(@RequestBody @Valid GenerateSchedulesDto dto) {
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(scheduleGenerationJobService.submit(dto));
+	}
+
+	@GetMapping("/generate-schedules/jobs/{jobId}")
+	@PreAuthorize("hasAuthority('SCOPE_ADMIN') or hasAuthority('SCOPE_COORDINATOR')")
+	public ResponseEntity<GenerationJobDto> findGenerationJob(@PathVariable UUID jobId) {
+		return ResponseEntity.ok(scheduleGenerationJobService.findById(jobId));
+	}
+
+	@GetMapping("/generate-schedules/jobs/{jobId}/result")
+	@PreAuthorize("hasAuthority('SCOPE_ADMIN') or hasAuthority('SCOPE_COORDINATOR')")
+	public ResponseEntity<GenerateSchedulesResponseDto> findGenerationJobResult(@PathVariable UUID jobId) {
+		return ResponseEntity.ok(scheduleGenerationJobService.findResult(jobId));
+	}
+
+	@DeleteMapping("/generate-schedules/jobs/{jobId}")
+	@PreAuthorize("hasAuthority('SCOPE_ADMIN') or hasAuthority('SCOPE_COORDINATOR')")
+	public ResponseEntity<GenerationJobDto> cancelGenerationJob(@PathVariable UUID jobId) {
+		return ResponseEntity.ok(scheduleGenerationJobService.cancel(jobId));
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null)
+			return false;
+
+		for (String coding : acceptEncoding.split(",")) {
+			String[] parts = coding.trim().split(";");
+
+			if (parts[0].trim().equalsIgnoreCase("gzip"))
+				return parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?");
+		}
+
+		return false;
+	}
+
 }
@@ -2,12 +2,15 @@ package com.class_manager.backend.data;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -15,6 +18,7 @@ import com.class_manager.backend.enums.RoleName;
 import com.class_manager.backend.model.Role;
 import com.class_manager.backend.model.User;
 import com.class_manager.backend.repository.RoleRepository;
+import com.class_manager.backend.repository.ScheduleRepository;
 import com.class_manager.backend.repository.UserRepository;
 
 import lombok.extern.slf4j.Slf4j;
@@ -23,9 +27,20 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class DataInitializer implements ApplicationRunner {
 
+	/**
+	 * Overlap exclusion constraints of the schedule table, by name, with the
+	 * column that may not have overlapping lessons in the same semester.
+	 */
+	private static final Map<String, String> SCHEDULE_OVERLAP_CONSTRAINTS = Map.of(
+			"schedule_teacher_no_overlap", "teacher_id",
+			"schedule_class_room_no_overlap", "class_room_id",
+			"schedule_group_no_overlap", "group_id");
+
 	private final BCryptPasswordEncoder passwordEncoder;
 	private final RoleRepository roleRepository;
 	private final UserRepository userRepository;
+	private final ScheduleRepository scheduleRepository;
+	private final JdbcTemplate jdbcTemplate;
 
 	private final Boolean generateInitialAdminUser;
 	private final String adminPassword;
@@ -37,6 +52,8 @@ public class DataInitializer implements ApplicationRunner {
 			BCryptPasswordEncoder passwordEncoder,
 			RoleRepository roleRepository,
 			UserRepository userRepository,
+			ScheduleRepository scheduleRepository,
+			JdbcTemplate jdbcTemplate,
 			@Value("${generate.admin.user}") Boolean generateInitialAdminUser,
 			@Value("${admin.config.password}") String adminPassword,
 			@Value("${admin.config.email}") String adminEmail,
@@ -45,6 +62,8 @@ public class DataInitializer implements ApplicationRunner {
 		this.passwordEncoder = passwordEncoder;
 		this.roleRepository = roleRepository;
 		this.userRepository = userRepository;
+		this.scheduleRepository = scheduleRepository;
+		this.jdbcTemplate = jdbcTemplate;
 		this.generateInitialAdminUser = generateInitialAdminUser;
 		this.adminPassword = adminPassword;
 		this.adminEmail = adminEmail;
@@ -61,6 +80,8 @@ public class DataInitializer implements ApplicationRunner {
 
 		createUserRoles();
 		createInitialAdminUser();
+		synchronizeScheduleIdSequence();
+		createScheduleOverlapConstraints();
 	}
 
 	/**
@@ -134,4 +155,57 @@ public class DataInitializer implements ApplicationRunner {
 		}
 	}
 
+	/**
+	 * Keeps the schedule id sequence ahead of the rows already stored in the
+	 * database.
+	 */
+	void synchronizeScheduleIdSequence() {
+		Long nextId = scheduleRepository.synchronizeIdSequence();
+		log.info("Schedule id sequence synchronized at {}", nextId);
+	}
+
+	/**
+	 * Fills the derived columns of the schedules and creates the GiST exclusion
+	 * constraints that prevent overlapping lessons of the same teacher, class
+	 * room or group in a semester.
+	 *
+	 * The constraints are deferred to the end of the transaction, so lessons
+	 * can swap slots. A constraint is not created while existing lessons
+	 * violate it, it is retried on the next startup.
+	 */
+	void createScheduleOverlapConstraints() {
+		int updated = scheduleRepository.fillOverlapColumns();
+		log.info("Schedule overlap columns updated for {} schedules", updated);
+
+		try {
+			jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS btree_gist");
+		} catch (DataAccessException e) {
+			log.warn("Extension btree_gist not available, schedule overlaps are not enforced by the database: {}",
+					e.getMessage());
+			return;
+		}
+
+		SCHEDULE_OVERLAP_CONSTRAINTS.forEach((name, column) -> {
+			Integer existing = jdbcTemplate.queryForObject(
+					"SELECT COUNT(*) FROM pg_constraint WHERE conname = ?", Integer.class, name);
+
+			if (existing != null && existing > 0)
+				return;
+
+			try {
+				jdbcTemplate.execute("""
+						ALTER TABLE schedule ADD CONSTRAINT %s EXCLUDE USING gist (
+							semester_id WITH =,
+							%s WITH =,
+							int4range(start_minute_of_week, end_minute_of_week) WITH &&
+						) DEFERRABLE INITIALLY DEFERRED
+						""".formatted(name, column));
+				log.info("Schedule overlap constraint {} created", name);
+			} catch (DataAccessException e) {
+				log.warn("Schedule overlap constraint {} not created, existing lessons overlap: {}", name,
+						e.getMessage());
+			}
+		});
+	}
+
 }
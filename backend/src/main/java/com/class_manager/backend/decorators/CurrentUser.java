@@ -0,0 +1,15 @@
+package com.class_manager.backend.decorators;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects the authenticated {@link com.class_manager.backend.model.User} into
+ * a controller method parameter. The user is loaded at most once per request.
+ */
+@Target({ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
@@ -1,11 +1,24 @@
 package com.class_manager.backend.dto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.springframework.http.HttpStatus;
 
+import com.class_manager.backend.dto.model.schedule.ScheduleConflict;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Body of an error response. The conflicts are only present when a timetable
+ * change is rejected, one per violated constraint.
+ */
 public record RestErrorMessage(
 		LocalDateTime timestamp,
 		HttpStatus status,
-		String error) {
+		String error,
+		@JsonInclude(JsonInclude.Include.NON_EMPTY) List<ScheduleConflict> conflicts) {
+
+	public RestErrorMessage(LocalDateTime timestamp, HttpStatus status, String error) {
+		this(timestamp, status, error, List.of());
+	}
 }
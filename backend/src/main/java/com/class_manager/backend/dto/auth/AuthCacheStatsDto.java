@@ -0,0 +1,6 @@
+package com.class_manager.backend.dto.auth;
+
+import com.class_manager.backend.utils.BoundedTtlCache;
+
+public record AuthCacheStatsDto(BoundedTtlCache.Stats verifiedTokens, BoundedTtlCache.Stats principals) {
+}
@@ -0,0 +1,11 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import java.util.List;
+
+import jakarta.validation.constraints.Positive;
+
+public record CloneSchedulesDto(
+		@Positive Long fromSemesterId,
+		@Positive Long toSemesterId,
+		List<Long> courseIds) {
+}
@@ -0,0 +1,9 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import java.util.List;
+
+public record CloneSchedulesResponseDto(
+		Integer clonedSchedules,
+		List<Long> courseIds,
+		List<ScheduleCloneConflict> conflicts) {
+}
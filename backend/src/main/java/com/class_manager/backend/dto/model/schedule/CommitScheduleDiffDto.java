@@ -0,0 +1,10 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record CommitScheduleDiffDto(
+		@Positive Long courseId,
+		@Positive Long semesterId,
+		@NotNull ScheduleDiffDto diff) {
+}
@@ -0,0 +1,28 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Every constraint a schedule violates, returned as a value so the callers
+ * decide what to do with it instead of catching an exception.
+ */
+public record ConflictReport(
+		List<ScheduleConflict> conflicts) {
+
+	public ConflictReport {
+		conflicts = conflicts != null ? List.copyOf(conflicts) : List.of();
+	}
+
+	public boolean hasConflicts() {
+		return !conflicts.isEmpty();
+	}
+
+	/**
+	 * Joins the messages of all conflicts, to be shown as a single error.
+	 */
+	public String summary() {
+		return conflicts.stream().map(ScheduleConflict::message).collect(Collectors.joining("; "));
+	}
+
+}
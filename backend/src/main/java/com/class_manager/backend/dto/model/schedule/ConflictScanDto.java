@@ -0,0 +1,10 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import java.util.List;
+
+public record ConflictScanDto(
+		Long semesterId,
+		Integer scannedLessons,
+		Integer overlaps,
+		List<ResourceConflictDto> conflicts) {
+}
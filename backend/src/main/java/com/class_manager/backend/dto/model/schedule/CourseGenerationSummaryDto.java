@@ -0,0 +1,10 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import java.util.List;
+
+public record CourseGenerationSummaryDto(
+		Long courseId,
+		String courseName,
+		Integer generatedSchedules,
+		List<ScheduleGenerationError> errors) {
+}
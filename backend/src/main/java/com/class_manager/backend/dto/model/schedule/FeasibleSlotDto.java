@@ -0,0 +1,10 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+public record FeasibleSlotDto(
+		DayOfWeek dayOfWeek,
+		LocalTime startTime,
+		LocalTime endTime) {
+}
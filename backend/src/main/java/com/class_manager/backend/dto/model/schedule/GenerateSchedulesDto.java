@@ -1,8 +1,17 @@
 package com.class_manager.backend.dto.model.schedule;
 
+import com.class_manager.backend.enums.GenerationEngine;
+
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 
 public record GenerateSchedulesDto(
 		@Positive Long courseId,
-		@Positive Long semesterId) {
+		@Positive Long semesterId,
+		GenerationEngine engine,
+		@Positive Long timeBudgetMillis,
+		@Positive @Max(64) Integer attempts,
+		Long seed,
+		@PositiveOrZero Long improvementTimeMillis) {
 }
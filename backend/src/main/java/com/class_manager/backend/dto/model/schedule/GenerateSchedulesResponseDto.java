@@ -3,7 +3,15 @@ package com.class_manager.backend.dto.model.schedule;
 import java.util.List;
 import com.class_manager.backend.model.Schedule;
 
+/**
+ * @param seed         the seed of the run
+ * @param reproducible whether running again with the seed gives the same
+ *                     timetable, only when no step of the run was bounded by
+ *                     time
+ */
 public record GenerateSchedulesResponseDto(
 		List<Schedule> generatedSchedules,
-		List<ScheduleGenerationError> errors) {
+		List<ScheduleGenerationError> errors,
+		Long seed,
+		Boolean reproducible) {
 }
@@ -0,0 +1,16 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import java.util.List;
+
+/**
+ * @param seed         the seed of the run
+ * @param reproducible whether running again with the seed gives the same
+ *                     timetable, only when no step of the run was bounded by
+ *                     time
+ */
+public record GenerateSemesterSchedulesResponseDto(
+		List<CourseGenerationSummaryDto> courses,
+		Integer independentComponents,
+		Long seed,
+		Boolean reproducible) {
+}
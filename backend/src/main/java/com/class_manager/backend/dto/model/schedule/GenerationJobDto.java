@@ -0,0 +1,20 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.class_manager.backend.enums.GenerationJobStatus;
+import com.class_manager.backend.enums.GenerationStage;
+
+public record GenerationJobDto(
+		UUID jobId,
+		GenerationJobStatus status,
+		GenerationStage stage,
+		Integer completedAttempts,
+		Integer totalAttempts,
+		Long courseId,
+		Long semesterId,
+		LocalDateTime submittedAt,
+		LocalDateTime finishedAt,
+		String error) {
+}
@@ -0,0 +1,28 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import com.class_manager.backend.enums.ConflictType;
+
+/**
+ * A lesson of a changed group that would overlap a lesson of another group
+ * sharing its new teacher or class room.
+ */
+public record GroupChangeConflict(
+		Long scheduleId,
+		String groupName,
+		Long semesterId,
+		DayOfWeek dayOfWeek,
+		LocalTime startTime,
+		LocalTime endTime,
+		Long conflictingScheduleId,
+		ConflictType type) {
+
+	public GroupChangeConflict(Long scheduleId, String groupName, Long semesterId, DayOfWeek dayOfWeek,
+			LocalTime startTime, LocalTime endTime, Long conflictingScheduleId, String type) {
+		this(scheduleId, groupName, semesterId, dayOfWeek, startTime, endTime, conflictingScheduleId,
+				ConflictType.valueOf(type));
+	}
+
+}
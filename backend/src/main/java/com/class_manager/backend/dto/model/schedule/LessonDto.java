@@ -0,0 +1,12 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+public record LessonDto(
+		Long scheduleId,
+		Long groupId,
+		DayOfWeek dayOfWeek,
+		LocalTime startTime,
+		LocalTime endTime) {
+}
@@ -0,0 +1,14 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+public record LessonMoveDto(
+		Long scheduleId,
+		Long groupId,
+		DayOfWeek fromDayOfWeek,
+		LocalTime fromStartTime,
+		DayOfWeek dayOfWeek,
+		LocalTime startTime,
+		LocalTime endTime) {
+}
@@ -0,0 +1,6 @@
+package com.class_manager.backend.dto.model.schedule;
+
+public record LessonOverlapDto(
+		LessonDto first,
+		LessonDto second) {
+}
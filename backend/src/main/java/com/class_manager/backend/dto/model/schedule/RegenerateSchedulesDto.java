@@ -0,0 +1,19 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import java.util.List;
+
+import com.class_manager.backend.enums.GenerationEngine;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+
+public record RegenerateSchedulesDto(
+		@Positive Long courseId,
+		@Positive Long semesterId,
+		List<Long> groupIds,
+		List<Long> disciplineIds,
+		GenerationEngine engine,
+		@Positive Long timeBudgetMillis,
+		@Positive @Max(64) Integer attempts,
+		Long seed) {
+}
@@ -0,0 +1,16 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import java.util.List;
+
+import com.class_manager.backend.enums.ConflictType;
+
+/**
+ * Overlapping lessons of a single teacher, class room, group or cohort. The
+ * resource ID of a cohort is the course ID and the semester of the course,
+ * separated by a slash.
+ */
+public record ResourceConflictDto(
+		ConflictType type,
+		String resourceId,
+		List<LessonOverlapDto> overlaps) {
+}
@@ -0,0 +1,17 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.UUID;
+
+public record ScannedLesson(
+		Long scheduleId,
+		Long groupId,
+		UUID teacherId,
+		Long classRoomId,
+		Long courseId,
+		Integer semesterOfCourse,
+		DayOfWeek dayOfWeek,
+		LocalTime startTime,
+		LocalTime endTime) {
+}
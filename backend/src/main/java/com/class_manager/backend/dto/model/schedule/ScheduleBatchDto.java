@@ -0,0 +1,25 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Changes to apply at once to the timetable of a semester: lessons to create
+ * (group, day and start time), lessons to move (schedule ID, day and start
+ * time) and IDs of lessons to delete.
+ */
+public record ScheduleBatchDto(
+		@Positive Long semesterId,
+		@Valid List<ScheduleDto> created,
+		@Valid List<ScheduleDto> moved,
+		List<Long> deleted) {
+
+	public ScheduleBatchDto {
+		created = created != null ? created : List.of();
+		moved = moved != null ? moved : List.of();
+		deleted = deleted != null ? deleted : List.of();
+	}
+
+}
@@ -0,0 +1,28 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import com.class_manager.backend.enums.ConflictType;
+
+/**
+ * A lesson of the source semester left out of a clone because it conflicts
+ * with a lesson already in the destination semester.
+ */
+public record ScheduleCloneConflict(
+		Long scheduleId,
+		Long groupId,
+		String groupName,
+		DayOfWeek dayOfWeek,
+		LocalTime startTime,
+		LocalTime endTime,
+		Long conflictingScheduleId,
+		ConflictType type) {
+
+	public ScheduleCloneConflict(Long scheduleId, Long groupId, String groupName, DayOfWeek dayOfWeek,
+			LocalTime startTime, LocalTime endTime, Long conflictingScheduleId, String type) {
+		this(scheduleId, groupId, groupName, dayOfWeek, startTime, endTime, conflictingScheduleId,
+				ConflictType.valueOf(type));
+	}
+
+}
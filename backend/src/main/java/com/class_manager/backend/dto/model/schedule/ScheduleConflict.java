@@ -0,0 +1,8 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import com.class_manager.backend.enums.ConflictType;
+
+public record ScheduleConflict(
+		ConflictType type,
+		String message) {
+}
@@ -0,0 +1,17 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import java.util.List;
+
+public record ScheduleDiffDto(
+		List<LessonDto> added,
+		List<LessonDto> removed,
+		List<LessonMoveDto> moved,
+		Integer unchanged) {
+
+	public ScheduleDiffDto {
+		added = added != null ? added : List.of();
+		removed = removed != null ? removed : List.of();
+		moved = moved != null ? moved : List.of();
+	}
+
+}
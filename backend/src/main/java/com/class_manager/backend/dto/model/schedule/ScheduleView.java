@@ -0,0 +1,33 @@
+package com.class_manager.backend.dto.model.schedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * A lesson with the names, abbreviations and color needed to show it in a
+ * timetable, read by a single query instead of loading the whole entity
+ * graph.
+ */
+public record ScheduleView(
+		Long id,
+		DayOfWeek dayOfWeek,
+		LocalTime startTime,
+		LocalTime endTime,
+		Long semesterId,
+		Long groupId,
+		String groupName,
+		String groupAbbreviation,
+		String groupColor,
+		Integer semesterOfCourse,
+		Long disciplineId,
+		String disciplineName,
+		String disciplineAbbreviation,
+		Long courseId,
+		String courseName,
+		String courseAbbreviation,
+		UUID teacherId,
+		String teacherFullName,
+		Long classRoomId,
+		String classRoomAbbreviation) {
+}
@@ -0,0 +1,9 @@
+package com.class_manager.backend.enums;
+
+public enum ConflictType {
+	TIME_SLOT,
+	TEACHER,
+	CLASS_ROOM,
+	GROUP,
+	COHORT
+}
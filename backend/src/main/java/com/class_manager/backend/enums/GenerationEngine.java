@@ -0,0 +1,6 @@
+package com.class_manager.backend.enums;
+
+public enum GenerationEngine {
+	GREEDY,
+	BACKTRACKING
+}
@@ -0,0 +1,9 @@
+package com.class_manager.backend.enums;
+
+public enum GenerationJobStatus {
+	QUEUED,
+	RUNNING,
+	COMPLETED,
+	FAILED,
+	CANCELLED
+}
@@ -0,0 +1,10 @@
+package com.class_manager.backend.enums;
+
+public enum GenerationStage {
+	QUEUED,
+	LOADING,
+	GENERATING,
+	IMPROVING,
+	SAVING,
+	DONE
+}
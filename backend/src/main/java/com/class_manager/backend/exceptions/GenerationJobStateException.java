@@ -0,0 +1,7 @@
+package com.class_manager.backend.exceptions;
+
+public class GenerationJobStateException extends RuntimeException {
+    public GenerationJobStateException(String message) {
+        super(message);
+    }
+}
@@ -1,7 +1,21 @@
 package com.class_manager.backend.exceptions;
 
+import com.class_manager.backend.dto.model.schedule.ConflictReport;
+
 public class InvalidScheduleException extends RuntimeException {
+    private final ConflictReport report;
+
     public InvalidScheduleException(String message) {
         super(message);
+        this.report = null;
+    }
+
+    public InvalidScheduleException(ConflictReport report) {
+        super(report.summary());
+        this.report = report;
+    }
+
+    public ConflictReport getReport() {
+        return report;
     }
 }
@@ -6,13 +6,15 @@ import lombok.NoArgsConstructor;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
+import java.util.UUID;
 
 import com.class_manager.backend.dto.model.schedule.ScheduleDto;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 @Entity
+// Overlaps of teacher, class room and group are excluded by constraints created in DataInitializer
 @Table(name = "schedule", uniqueConstraints = {
-		@UniqueConstraint(columnNames = { "semester_id", "class_room_id", "day_of_week", "start_time", "end_time" }),
 		@UniqueConstraint(columnNames = { "semester_id", "group_id", "day_of_week", "start_time", "end_time" })
 })
 @Data
@@ -20,7 +22,8 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 public class Schedule {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_seq")
+	@SequenceGenerator(name = "schedule_seq", sequenceName = "schedule_seq", allocationSize = 50)
 	private Long id;
 
 	@Column(name = "day_of_week", nullable = false)
@@ -42,6 +45,28 @@ public class Schedule {
 	@JoinColumn(name = "semester_id")
 	private Semester semester;
 
+	/*
+	 * Derived columns backing the overlap exclusion constraints: the lesson as
+	 * a range of minutes since Monday 00:00, and copies of the teacher of the
+	 * discipline and the class room of the group.
+	 */
+
+	@JsonIgnore
+	@Column(name = "start_minute_of_week")
+	private Integer startMinuteOfWeek;
+
+	@JsonIgnore
+	@Column(name = "end_minute_of_week")
+	private Integer endMinuteOfWeek;
+
+	@JsonIgnore
+	@Column(name = "teacher_id")
+	private UUID teacherId;
+
+	@JsonIgnore
+	@Column(name = "class_room_id")
+	private Long classRoomId;
+
 	public Schedule(ScheduleDto dto) {
 		this.dayOfWeek = dto.dayOfWeek();
 		this.startTime = dto.startTime();
@@ -58,4 +83,35 @@ public class Schedule {
 		return this.semester.getId();
 	}
 
+	@PrePersist
+	@PreUpdate
+	void updateDerivedColumns() {
+		this.startMinuteOfWeek = minuteOfWeek(this.dayOfWeek, this.startTime);
+		this.endMinuteOfWeek = endMinuteOfWeek(this.dayOfWeek, this.startTime, this.endTime);
+
+		User teacher = this.group.getDiscipline().getTeacher();
+		ClassRoom classRoom = this.group.getClassRoom();
+
+		this.teacherId = teacher != null ? teacher.getId() : null;
+		this.classRoomId = classRoom != null ? classRoom.getId() : null;
+	}
+
+	/**
+	 * @return the minutes elapsed since Monday 00:00
+	 */
+	public static int minuteOfWeek(DayOfWeek dayOfWeek, LocalTime time) {
+		return (dayOfWeek.getValue() - 1) * 24 * 60 + time.getHour() * 60 + time.getMinute();
+	}
+
+	/**
+	 * A lesson ending at midnight, or past it, ends with its day, so its range
+	 * of minutes never ends before it starts.
+	 *
+	 * @return the minutes elapsed since Monday 00:00 at the end of a lesson
+	 */
+	public static int endMinuteOfWeek(DayOfWeek dayOfWeek, LocalTime start, LocalTime end) {
+		int endMinute = minuteOfWeek(dayOfWeek, end);
+		return endMinute <= minuteOfWeek(dayOfWeek, start) ? dayOfWeek.getValue() * 24 * 60 : endMinute;
+	}
+
 }
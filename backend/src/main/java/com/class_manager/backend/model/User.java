@@ -5,8 +5,6 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
-
 import com.class_manager.backend.dto.auth.UpdateUserDto;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -84,10 +82,6 @@ public class User {
 		this.disciplines = new ArrayList<>();
     }
 
-    public boolean isPasswordCorrect(String password, PasswordEncoder passwordEncoder) {
-        return passwordEncoder.matches(password, this.password);
-    }
-
 	public String getFullName() {
 		return name + " " + surname;
 	}
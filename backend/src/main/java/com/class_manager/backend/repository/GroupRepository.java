@@ -34,4 +34,13 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
 
 	Page<Group> findByActiveTrue(Pageable pageable);
 
+	@Query("""
+			SELECT g FROM Group g
+				WHERE g.active = true AND g.discipline.course.active = true
+			""")
+	List<Group> findAllOfActiveCourses();
+
+	@Query("SELECT g.id FROM Group g WHERE g.discipline.id = :disciplineId")
+	List<Long> findIdsByDisciplineId(@Param("disciplineId") Long disciplineId);
+
 }
@@ -1,17 +1,23 @@
 package com.class_manager.backend.repository;
 
-import java.time.DayOfWeek;
-import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.class_manager.backend.dto.model.class_room.ClassRoomOccupationReport;
 import com.class_manager.backend.dto.model.course.CourseDisciplineWorkloadReport;
+import com.class_manager.backend.dto.model.schedule.GroupChangeConflict;
+import com.class_manager.backend.dto.model.schedule.OccupiedSlot;
+import com.class_manager.backend.dto.model.schedule.ScannedLesson;
+import com.class_manager.backend.dto.model.schedule.ScheduleCloneConflict;
+import com.class_manager.backend.dto.model.schedule.ScheduleView;
 import com.class_manager.backend.dto.model.teacher.TeacherWorkloadReport;
 import com.class_manager.backend.model.Schedule;
 
@@ -26,80 +32,341 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
 			@Param("courseId") Long courseId);
 
 	@Query("""
-				SELECT s FROM Schedule s
+				SELECT NEW com.class_manager.backend.dto.model.schedule.ScheduleView(
+					s.id, s.dayOfWeek, s.startTime, s.endTime, s.semester.id,
+					g.id, g.name, g.abbreviation, g.color, g.semesterOfCourse,
+					d.id, d.name, d.abbreviation,
+					c.id, c.name, c.abbreviation,
+					t.id, CONCAT(t.name, ' ', t.surname),
+					r.id, r.abbreviation)
+				FROM Schedule s
+				JOIN s.group g
+				JOIN g.discipline d
+				JOIN d.course c
+				LEFT JOIN d.teacher t
+				LEFT JOIN g.classRoom r
 					WHERE s.semester.id = :semesterId
+					AND c.id = :courseId
+				ORDER BY s.startMinuteOfWeek, s.id
 			""")
-	List<Schedule> findSchedulesBySemester(@Param("semesterId") Long semesterId);
+	List<ScheduleView> findScheduleViewsBySemesterAndCourse(@Param("semesterId") Long semesterId,
+			@Param("courseId") Long courseId);
 
 	@Query("""
-				SELECT s FROM Schedule s
+				SELECT NEW com.class_manager.backend.dto.model.schedule.ScheduleView(
+					s.id, s.dayOfWeek, s.startTime, s.endTime, s.semester.id,
+					g.id, g.name, g.abbreviation, g.color, g.semesterOfCourse,
+					d.id, d.name, d.abbreviation,
+					c.id, c.name, c.abbreviation,
+					t.id, CONCAT(t.name, ' ', t.surname),
+					r.id, r.abbreviation)
+				FROM Schedule s
+				JOIN s.group g
+				JOIN g.discipline d
+				JOIN d.course c
+				LEFT JOIN d.teacher t
+				LEFT JOIN g.classRoom r
 					WHERE s.semester.id = :semesterId
-					AND s.group.discipline.teacher.id = :teacherId
+					AND t.id = :teacherId
+				ORDER BY s.startMinuteOfWeek, s.id
 			""")
-	List<Schedule> findSchedulesBySemesterAndTeacher(@Param("semesterId") Long semesterId,
+	List<ScheduleView> findScheduleViewsBySemesterAndTeacher(@Param("semesterId") Long semesterId,
 			@Param("teacherId") UUID teacherId);
 
 	@Query("""
-			     SELECT COUNT(s) > 0
-			     FROM Schedule s
-			     WHERE
-			s.semester.id = :semesterId
-			         AND s.group.discipline.teacher.id = :teacherId
-			         AND s.dayOfWeek = :dayOfWeek
-			         AND (
-			             (s.startTime < :endTime AND s.endTime > :startTime)
-			         )
-			         AND (:excludeId IS NULL OR s.id <> :excludeId)
-			 """)
+				SELECT s FROM Schedule s
+					WHERE s.semester.id = :semesterId
+			""")
+	List<Schedule> findSchedulesBySemester(@Param("semesterId") Long semesterId);
+
+	@Query("""
+				SELECT NEW com.class_manager.backend.dto.model.schedule.OccupiedSlot(
+					s.id, g.id, t.id, cr.id, c.id, g.semesterOfCourse, s.dayOfWeek, s.startTime, s.endTime
+				)
+				FROM Schedule s
+				JOIN s.group g
+				JOIN g.discipline d
+				JOIN d.course c
+				LEFT JOIN d.teacher t
+				LEFT JOIN g.classRoom cr
+				WHERE s.semester.id = :semesterId
+			""")
+	List<OccupiedSlot> findOccupiedSlotsBySemester(@Param("semesterId") Long semesterId);
+
+	@Query("""
+				SELECT NEW com.class_manager.backend.dto.model.schedule.ScannedLesson(
+					s.id, g.id, t.id, cr.id, c.id, g.semesterOfCourse, s.dayOfWeek, s.startTime, s.endTime
+				)
+				FROM Schedule s
+				JOIN s.group g
+				JOIN g.discipline d
+				JOIN d.course c
+				LEFT JOIN d.teacher t
+				LEFT JOIN g.classRoom cr
+				WHERE s.semester.id = :semesterId
+				ORDER BY s.id
+			""")
+	List<ScannedLesson> findScannedLessonsBySemester(@Param("semesterId") Long semesterId);
+
+	/*
+	 * The overlap checks below compare minute of week ranges, so they are
+	 * answered by the GiST indexes of the overlap exclusion constraints.
+	 */
+
+	@Query(value = """
+				SELECT EXISTS (
+					SELECT 1 FROM schedule s
+					WHERE s.semester_id = :semesterId
+						AND s.teacher_id = :teacherId
+						AND int4range(s.start_minute_of_week, s.end_minute_of_week) && int4range(:startMinute, :endMinute)
+						AND s.id <> COALESCE(CAST(:excludeId AS BIGINT), 0)
+				)
+			""", nativeQuery = true)
 	boolean existsByTeacherAndTime(
 			@Param("teacherId") UUID teacherId,
 			@Param("semesterId") Long semesterId,
-			@Param("dayOfWeek") DayOfWeek dayOfWeek,
-			@Param("startTime") LocalTime startTime,
-			@Param("endTime") LocalTime endTime,
+			@Param("startMinute") Integer startMinute,
+			@Param("endMinute") Integer endMinute,
 			@Param("excludeId") Long excludeId);
 
-	@Query("""
-			     SELECT COUNT(s) > 0
-			     FROM Schedule s
-			     WHERE
-			s.semester.id = :semesterId
-			         AND s.group.classRoom.id = :classRoomId
-			         AND s.dayOfWeek = :dayOfWeek
-			         AND (
-			             (s.startTime < :endTime AND s.endTime > :startTime)
-			         )
-			         AND (:excludeId IS NULL OR s.id <> :excludeId)
-			 """)
+	@Query(value = """
+				SELECT EXISTS (
+					SELECT 1 FROM schedule s
+					WHERE s.semester_id = :semesterId
+						AND s.class_room_id = :classRoomId
+						AND int4range(s.start_minute_of_week, s.end_minute_of_week) && int4range(:startMinute, :endMinute)
+						AND s.id <> COALESCE(CAST(:excludeId AS BIGINT), 0)
+				)
+			""", nativeQuery = true)
 	boolean existsByClassRoomAndTime(
 			@Param("classRoomId") Long classRoomId,
 			@Param("semesterId") Long semesterId,
-			@Param("dayOfWeek") DayOfWeek dayOfWeek,
-			@Param("startTime") LocalTime startTime,
-			@Param("endTime") LocalTime endTime,
+			@Param("startMinute") Integer startMinute,
+			@Param("endMinute") Integer endMinute,
 			@Param("excludeId") Long excludeId);
 
-	@Query("""
-				SELECT COUNT(s) > 0
-				FROM Schedule s
-				WHERE
-					s.semester.id = :semesterId
-					AND s.group.id = :groupId
-					AND s.dayOfWeek = :dayOfWeek
-					AND s.startTime = :startTime
-					AND s.endTime = :endTime
-					AND (:excludeId IS NULL OR s.id <> :excludeId)
-			""")
+	@Query(value = """
+				SELECT EXISTS (
+					SELECT 1 FROM schedule s
+					WHERE s.semester_id = :semesterId
+						AND s.group_id = :groupId
+						AND int4range(s.start_minute_of_week, s.end_minute_of_week) && int4range(:startMinute, :endMinute)
+						AND s.id <> COALESCE(CAST(:excludeId AS BIGINT), 0)
+				)
+			""", nativeQuery = true)
 	boolean existsByGroupAndTime(
 			@Param("groupId") Long groupId,
 			@Param("semesterId") Long semesterId,
-			@Param("dayOfWeek") DayOfWeek dayOfWeek,
-			@Param("startTime") LocalTime startTime,
-			@Param("endTime") LocalTime endTime,
+			@Param("startMinute") Integer startMinute,
+			@Param("endMinute") Integer endMinute,
 			@Param("excludeId") Long excludeId);
 
 	List<Schedule> findByGroupId(Long groupId);
 
+	/**
+	 * Deletes the schedules of some courses in a semester with a single
+	 * statement. Must run inside a transaction.
+	 */
+	@Modifying
+	@Query("""
+				DELETE FROM Schedule s
+					WHERE s.semester.id = :semesterId
+					AND s.group.id IN (
+						SELECT g.id FROM Group g WHERE g.discipline.course.id IN :courseIds
+					)
+			""")
+	int deleteBySemesterAndCourses(@Param("semesterId") Long semesterId,
+			@Param("courseIds") Collection<Long> courseIds);
+
+	@Query("""
+				SELECT DISTINCT s.group.discipline.course.id FROM Schedule s
+					WHERE s.semester.id = :semesterId
+			""")
+	List<Long> findCourseIdsBySemester(@Param("semesterId") Long semesterId);
+
+	/**
+	 * Finds the lessons of some courses in a semester that overlap a lesson of
+	 * another semester sharing their group, teacher or class room. A lesson
+	 * appears once for each lesson it conflicts with.
+	 */
+	@Query("""
+				SELECT NEW com.class_manager.backend.dto.model.schedule.ScheduleCloneConflict(
+					s.id, g.id, g.name, s.dayOfWeek, s.startTime, s.endTime, t.id,
+					CASE
+						WHEN tg.id = g.id THEN 'GROUP'
+						WHEN tt.id = st.id THEN 'TEACHER'
+						ELSE 'CLASS_ROOM'
+					END
+				)
+				FROM Schedule s
+				JOIN s.group g
+				JOIN g.discipline d
+				LEFT JOIN d.teacher st
+				LEFT JOIN g.classRoom sr
+				JOIN Schedule t ON t.semester.id = :toSemesterId
+					AND t.dayOfWeek = s.dayOfWeek
+					AND t.startTime < s.endTime
+					AND t.endTime > s.startTime
+				JOIN t.group tg
+				JOIN tg.discipline td
+				LEFT JOIN td.teacher tt
+				LEFT JOIN tg.classRoom tr
+				WHERE s.semester.id = :fromSemesterId
+					AND d.course.id IN :courseIds
+					AND (tg.id = g.id OR tt.id = st.id OR tr.id = sr.id)
+				ORDER BY s.id, t.id
+			""")
+	List<ScheduleCloneConflict> findCloneConflicts(@Param("fromSemesterId") Long fromSemesterId,
+			@Param("toSemesterId") Long toSemesterId, @Param("courseIds") Collection<Long> courseIds);
+
+	/**
+	 * Copies the lessons of some courses from a semester to another with a
+	 * single statement, leaving out the ones that conflict with a lesson
+	 * already in the destination (see {@link #findCloneConflicts}). Must run
+	 * inside a transaction.
+	 *
+	 * Each row takes its id straight from the sequence, as the upper bound of a
+	 * pooled block, so it never collides with the ids handed out by Hibernate.
+	 */
+	@Modifying
+	@Query(value = """
+				INSERT INTO schedule (id, day_of_week, start_time, end_time, group_id, semester_id,
+					start_minute_of_week, end_minute_of_week, teacher_id, class_room_id)
+				SELECT nextval('schedule_seq'), s.day_of_week, s.start_time, s.end_time, s.group_id, :toSemesterId,
+					s.start_minute_of_week, s.end_minute_of_week, d.teacher_id, g.class_room_id
+				FROM schedule s
+				JOIN student_group g ON g.id = s.group_id
+				JOIN discipline d ON d.id = g.discipline_id
+				WHERE s.semester_id = :fromSemesterId
+					AND d.course_id IN (:courseIds)
+					AND NOT EXISTS (
+						SELECT 1 FROM schedule t
+						WHERE t.semester_id = :toSemesterId
+							AND int4range(t.start_minute_of_week, t.end_minute_of_week)
+								&& int4range(s.start_minute_of_week, s.end_minute_of_week)
+							AND (t.group_id = s.group_id
+								OR t.teacher_id = d.teacher_id
+								OR t.class_room_id = g.class_room_id)
+					)
+			""", nativeQuery = true)
+	int cloneSchedules(@Param("fromSemesterId") Long fromSemesterId, @Param("toSemesterId") Long toSemesterId,
+			@Param("courseIds") Collection<Long> courseIds);
+
+	/**
+	 * Moves the schedule id sequence past the highest existing id, so rows
+	 * created while the id was an identity column never collide with ids
+	 * handed out by the pooled sequence.
+	 */
+	@Transactional
+	@Query(value = """
+				SELECT setval('schedule_seq', GREATEST(
+					(SELECT last_value FROM schedule_seq),
+					(SELECT COALESCE(MAX(id), 0) FROM schedule) + 50
+				))
+			""", nativeQuery = true)
+	Long synchronizeIdSequence();
+
+	/**
+	 * Fills the minute of week range and the denormalized teacher and class
+	 * room of the schedules where they are missing or out of date. The teacher
+	 * and class room of a finalized semester are only filled when missing. A
+	 * lesson ending at midnight ends with its day, as in
+	 * {@link Schedule#endMinuteOfWeek}, including the ones stored with an
+	 * empty or reversed range before.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = """
+				UPDATE schedule s SET
+					start_minute_of_week = (array_position(ARRAY['MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY',
+						'FRIDAY', 'SATURDAY', 'SUNDAY'], s.day_of_week) - 1) * 1440
+						+ CAST(EXTRACT(EPOCH FROM s.start_time) / 60 AS INTEGER),
+					end_minute_of_week = (array_position(ARRAY['MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY',
+						'FRIDAY', 'SATURDAY', 'SUNDAY'], s.day_of_week) - 1) * 1440
+						+ CASE WHEN s.end_time <= s.start_time THEN 1440
+							ELSE CAST(EXTRACT(EPOCH FROM s.end_time) / 60 AS INTEGER) END,
+					teacher_id = COALESCE(CASE WHEN sem.status = 'FINALIZED' THEN s.teacher_id END, d.teacher_id),
+					class_room_id = COALESCE(CASE WHEN sem.status = 'FINALIZED' THEN s.class_room_id END,
+						g.class_room_id)
+				FROM student_group g
+				JOIN discipline d ON d.id = g.discipline_id,
+					semester sem
+				WHERE g.id = s.group_id
+					AND sem.id = s.semester_id
+					AND (s.start_minute_of_week IS NULL
+						OR s.end_minute_of_week IS NULL
+						OR s.end_minute_of_week <= s.start_minute_of_week
+						OR (sem.status <> 'FINALIZED'
+							AND (s.teacher_id IS DISTINCT FROM d.teacher_id
+								OR s.class_room_id IS DISTINCT FROM g.class_room_id)))
+			""", nativeQuery = true)
+	int fillOverlapColumns();
+
+	/**
+	 * Checks the deferred overlap exclusion constraints right away, instead of
+	 * at commit, so a violation can be handled by the caller. Must run inside
+	 * a transaction.
+	 */
+	@Modifying
+	@Query(value = "SET CONSTRAINTS ALL IMMEDIATE", nativeQuery = true)
+	void checkOverlapConstraints();
+
+	/**
+	 * Finds the lessons of some groups that would overlap, in their semester, a
+	 * lesson of any other group with the given teacher or class room.
+	 * Finalized semesters are left out, their lessons are never updated. A
+	 * lesson appears once for each lesson it conflicts with.
+	 */
+	@Query("""
+				SELECT NEW com.class_manager.backend.dto.model.schedule.GroupChangeConflict(
+					s.id, g.name, sem.id, s.dayOfWeek, s.startTime, s.endTime, t.id,
+					CASE
+						WHEN tt.id = :teacherId THEN 'TEACHER'
+						ELSE 'CLASS_ROOM'
+					END
+				)
+				FROM Schedule s
+				JOIN s.group g
+				JOIN s.semester sem
+				JOIN Schedule t ON t.semester.id = sem.id
+					AND t.dayOfWeek = s.dayOfWeek
+					AND t.startTime < s.endTime
+					AND t.endTime > s.startTime
+				JOIN t.group tg
+				JOIN tg.discipline td
+				LEFT JOIN td.teacher tt
+				LEFT JOIN tg.classRoom tr
+				WHERE g.id IN :groupIds
+					AND tg.id NOT IN :groupIds
+					AND sem.status <> com.class_manager.backend.enums.SemesterStatus.FINALIZED
+					AND (tt.id = :teacherId OR tr.id = :classRoomId)
+				ORDER BY s.id, t.id
+			""")
+	List<GroupChangeConflict> findGroupChangeConflicts(@Param("groupIds") Collection<Long> groupIds,
+			@Param("teacherId") UUID teacherId, @Param("classRoomId") Long classRoomId);
+
+	/*
+	 * The copies of the teacher and class room below are only brought up to
+	 * date in semesters not finalized yet, the lessons of a finalized semester
+	 * keep the ones they were held with.
+	 */
+
+	@Modifying
+	@Query(value = """
+				UPDATE schedule SET teacher_id = :teacherId
+				WHERE group_id IN (:groupIds)
+					AND semester_id IN (SELECT id FROM semester WHERE status <> 'FINALIZED')
+			""", nativeQuery = true)
+	int updateTeacher(@Param("groupIds") Collection<Long> groupIds, @Param("teacherId") UUID teacherId);
+
+	@Modifying
+	@Query(value = """
+				UPDATE schedule SET class_room_id = :classRoomId
+				WHERE group_id = :groupId
+					AND semester_id IN (SELECT id FROM semester WHERE status <> 'FINALIZED')
+			""", nativeQuery = true)
+	int updateClassRoom(@Param("groupId") Long groupId, @Param("classRoomId") Long classRoomId);
+
 	@Query("""
 			    SELECT NEW com.class_manager.backend.dto.model.teacher.TeacherWorkloadReport(
 			        CONCAT(u.name, ' ', u.surname),
@@ -1,5 +1,7 @@
 package com.class_manager.backend.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,4 +17,10 @@ public interface TimeSlotRepository extends JpaRepository<TimeSlot, Long> {
 	@Query("SELECT ts FROM TimeSlot ts JOIN FETCH ts.daysOfWeek WHERE ts.course.id = :courseId")
 	Optional<TimeSlot> findByCourseIdWithDays(@Param("courseId") Long courseId);
 
+	@Query("SELECT DISTINCT ts FROM TimeSlot ts JOIN FETCH ts.daysOfWeek WHERE ts.course.active = true")
+	List<TimeSlot> findAllOfActiveCoursesWithDays();
+
+	@Query("SELECT DISTINCT ts FROM TimeSlot ts JOIN FETCH ts.daysOfWeek WHERE ts.course.id IN :courseIds")
+	List<TimeSlot> findAllByCourseIdsWithDays(@Param("courseIds") Collection<Long> courseIds);
+
 }
@@ -4,7 +4,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Service;
 
 import com.class_manager.backend.dto.model.course.CoordinatorCoursesResponseDto;
@@ -30,14 +29,11 @@ public class CourseService {
 	private final CourseRepository courseRepository;
 	private final UserRepository userRepository;
 
-	public List<Course> findAllByUser(JwtAuthenticationToken token) {
-		User user = getUserFromToken(token);
+	public List<Course> findAllByUser(User user) {
 		return courseRepository.findTeachingCoursesByUser(user);
 	}
 
-	public CoordinatorCoursesResponseDto findAllByCoordinatorUser(JwtAuthenticationToken token) {
-		User user = getUserFromToken(token);
-
+	public CoordinatorCoursesResponseDto findAllByCoordinatorUser(User user) {
 		if (!isCoordinator(user)) {
 			throw new UnauthorizedException();
 		}
@@ -48,9 +44,7 @@ public class CourseService {
 		return new CoordinatorCoursesResponseDto(coordinatorCourse, teachingCourses);
 	}
 
-	public List<Course> findAllByAdminUser(JwtAuthenticationToken token) {
-		User user = getUserFromToken(token);
-
+	public List<Course> findAllByAdminUser(User user) {
 		if (!isAdmin(user)) {
 			throw new UnauthorizedException();
 		}
@@ -123,11 +117,4 @@ public class CourseService {
 		courseRepository.save(course);
 	}
 
-	public User getUserFromToken(JwtAuthenticationToken token) {
-		UUID userId = UUID.fromString(token.getName());
-		return userRepository.findById(userId)
-				.orElseThrow(() -> new EntityNotFoundException(
-						"User not found"));
-	}
-
 }
@@ -7,6 +7,7 @@ import com.class_manager.backend.model.User;
 import com.class_manager.backend.repository.CourseRepository;
 import com.class_manager.backend.repository.DisciplineRepository;
 import com.class_manager.backend.repository.UserRepository;
+import com.class_manager.backend.service.schedule.ScheduleWriter;
 import com.class_manager.backend.utils.Patcher;
 
 import static com.class_manager.backend.utils.UserScopeUtils.isTeacher;
@@ -18,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -30,6 +32,7 @@ public class DisciplineService {
 	private final DisciplineRepository disciplineRepository;
 	private final CourseRepository courseRepository;
 	private final UserRepository userRepository;
+	private final ScheduleWriter scheduleWriter;
 
 	public Page<Discipline> findAll(Long courseId, Pageable pageable) {
 		if (!courseRepository.existsById(courseId)) {
@@ -91,6 +94,7 @@ public class DisciplineService {
 	 *                                  process
 	 */
 
+	@Transactional
 	public Discipline patch(Long disciplineId, DisciplineDto disciplineDto) {
 		Discipline existingDiscipline = disciplineRepository.findById(disciplineId)
 				.orElseThrow(() -> new EntityNotFoundException("Discipline not found with id: " + disciplineId));
@@ -125,7 +129,11 @@ public class DisciplineService {
 
 		try {
 			Patcher.patch(existingDiscipline, partialDiscipline);
-			return disciplineRepository.save(existingDiscipline);
+			Discipline savedDiscipline = disciplineRepository.save(existingDiscipline);
+
+			// The lessons of the discipline may now have another teacher
+			scheduleWriter.syncDiscipline(savedDiscipline);
+			return savedDiscipline;
 		} catch (IllegalAccessException e) {
 			log.error("Error when trying to patch (Partial Update) the Discipline entity with id: {}", disciplineId, e);
 			throw new RuntimeException("Failed to patch Discipline", e);
@@ -7,6 +7,7 @@ import com.class_manager.backend.model.Group;
 import com.class_manager.backend.repository.ClassRoomRepository;
 import com.class_manager.backend.repository.DisciplineRepository;
 import com.class_manager.backend.repository.GroupRepository;
+import com.class_manager.backend.service.schedule.ScheduleWriter;
 import com.class_manager.backend.utils.Patcher;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -16,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -28,6 +30,7 @@ public class GroupService {
 	private final GroupRepository groupRepository;
 	private final ClassRoomRepository classRoomRepository;
 	private final DisciplineRepository disciplineRepository;
+	private final ScheduleWriter scheduleWriter;
 
 	public Page<Group> findAllByCourse(Long courseId, Pageable pageable) {
 		return groupRepository.findAllByCourse(courseId, pageable);
@@ -62,6 +65,7 @@ public class GroupService {
 		return groupRepository.save(newGroup);
 	}
 
+	@Transactional
 	public Group patch(Long groupId, GroupDto groupDto) {
 		Group existingGroup = groupRepository.findById(groupId)
 				.orElseThrow(() -> new EntityNotFoundException("Group not found with id: " + groupId));
@@ -90,7 +94,11 @@ public class GroupService {
 
 		try {
 			Patcher.patch(existingGroup, partialGroup);
-			return groupRepository.save(existingGroup);
+			Group savedGroup = groupRepository.save(existingGroup);
+
+			// The lessons of the group may now have another teacher or class room
+			scheduleWriter.syncGroup(savedGroup);
+			return savedGroup;
 		} catch (IllegalAccessException e) {
 			throw new RuntimeException("Failed to patch Group", e);
 		}
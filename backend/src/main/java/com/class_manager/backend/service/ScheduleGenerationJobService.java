@@ -0,0 +1,166 @@
+package com.class_manager.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.class_manager.backend.dto.model.schedule.GenerateSchedulesDto;
+import com.class_manager.backend.dto.model.schedule.GenerateSchedulesResponseDto;
+import com.class_manager.backend.dto.model.schedule.GenerationJobDto;
+import com.class_manager.backend.enums.GenerationJobStatus;
+import com.class_manager.backend.exceptions.GenerationJobStateException;
+import com.class_manager.backend.service.schedule.GenerationJob;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs schedule generations in background, so the HTTP request only submits
+ * the job and the client polls its status.
+ *
+ * Jobs run on a dedicated pool with a bounded queue, a submission beyond its
+ * capacity is rejected instead of piling up. Jobs are kept in memory and
+ * forgotten some time after they finish.
+ */
+@Slf4j
+@Service
+public class ScheduleGenerationJobService {
+
+	private static final long FINISHED_JOB_RETENTION_MINUTES = 60;
+
+	private final ScheduleService scheduleService;
+	private final ThreadPoolExecutor executor;
+	private final Map<UUID, GenerationJob> jobs = new ConcurrentHashMap<>();
+
+	public ScheduleGenerationJobService(
+			ScheduleService scheduleService,
+			@Value("${schedule.generation.jobs.pool-size}") int poolSize,
+			@Value("${schedule.generation.jobs.queue-capacity}") int queueCapacity) {
+		this.scheduleService = scheduleService;
+
+		AtomicInteger threadCount = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				runnable -> new Thread(runnable, "schedule-generation-" + threadCount.incrementAndGet()),
+				new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * Queues a generation.
+	 *
+	 * @param dto the generation request
+	 * @return the queued job
+	 * @throws RejectedExecutionException if the queue is full
+	 */
+	public GenerationJobDto submit(GenerateSchedulesDto dto) {
+		evictFinishedJobs();
+
+		GenerationJob job = new GenerationJob(dto);
+		jobs.put(job.getId(), job);
+
+		try {
+			job.setFuture(executor.submit(() -> run(job)));
+		} catch (RejectedExecutionException e) {
+			jobs.remove(job.getId());
+			throw new RejectedExecutionException("Too many schedule generations in progress, try again later", e);
+		}
+
+		log.info("Queued schedule generation job {} for semester {} and course {}", job.getId(), dto.semesterId(),
+				dto.courseId());
+		return toDto(job);
+	}
+
+	public GenerationJobDto findById(UUID jobId) {
+		return toDto(findJob(jobId));
+	}
+
+	/**
+	 * Retrieves the result of a completed job. The schedules are the ones the
+	 * job saved, kept with the job, so a later change to the course timetable
+	 * is not reported as its output.
+	 *
+	 * @param jobId the job ID
+	 * @return the generated schedules, the generation errors and the seed
+	 * @throws GenerationJobStateException if the job has not completed
+	 */
+	public GenerateSchedulesResponseDto findResult(UUID jobId) {
+		GenerationJob job = findJob(jobId);
+
+		if (job.getStatus() != GenerationJobStatus.COMPLETED) {
+			throw new GenerationJobStateException("Generation job " + jobId + " is " + job.getStatus());
+		}
+
+		return job.getResult();
+	}
+
+	public GenerationJobDto cancel(UUID jobId) {
+		GenerationJob job = findJob(jobId);
+		job.cancel();
+		return toDto(job);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		jobs.values().forEach(GenerationJob::cancel);
+		executor.shutdownNow();
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private void run(GenerationJob job) {
+		if (!job.start())
+			return;
+
+		try {
+			job.complete(scheduleService.generateSchedulesForCourseAndSemester(job.getRequest(), job.getMonitor()));
+			log.info("Schedule generation job {} completed", job.getId());
+		} catch (CancellationException e) {
+			job.cancelled();
+			log.info("Schedule generation job {} cancelled", job.getId());
+		} catch (Exception e) {
+			job.fail(e.getMessage());
+			log.error("Schedule generation job {} failed", job.getId(), e);
+		}
+	}
+
+	private GenerationJob findJob(UUID jobId) {
+		GenerationJob job = jobs.get(jobId);
+
+		if (job == null) {
+			throw new EntityNotFoundException("Generation Job Not Found.");
+		}
+
+		return job;
+	}
+
+	private void evictFinishedJobs() {
+		LocalDateTime limit = LocalDateTime.now().minusMinutes(FINISHED_JOB_RETENTION_MINUTES);
+		jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(limit));
+	}
+
+	private GenerationJobDto toDto(GenerationJob job) {
+		return new GenerationJobDto(
+				job.getId(),
+				job.getStatus(),
+				job.getMonitor().getStage(),
+				job.getMonitor().getCompletedAttempts(),
+				job.getMonitor().getTotalAttempts(),
+				job.getRequest().courseId(),
+				job.getRequest().semesterId(),
+				job.getSubmittedAt(),
+				job.getFinishedAt(),
+				job.getError());
+	}
+
+}
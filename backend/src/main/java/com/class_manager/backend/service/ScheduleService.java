@@ -4,24 +4,54 @@ import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.class_manager.backend.dto.model.schedule.CloneSchedulesDto;
+import com.class_manager.backend.dto.model.schedule.CloneSchedulesResponseDto;
+import com.class_manager.backend.dto.model.schedule.CommitScheduleDiffDto;
+import com.class_manager.backend.dto.model.schedule.ConflictReport;
+import com.class_manager.backend.dto.model.schedule.ConflictScanDto;
 import com.class_manager.backend.dto.model.schedule.CopySchedulesDto;
+import com.class_manager.backend.dto.model.schedule.CourseGenerationSummaryDto;
+import com.class_manager.backend.dto.model.schedule.FeasibleSlotDto;
 import com.class_manager.backend.dto.model.schedule.GenerateSchedulesDto;
 import com.class_manager.backend.dto.model.schedule.GenerateSchedulesResponseDto;
+import com.class_manager.backend.dto.model.schedule.GenerateSemesterSchedulesDto;
+import com.class_manager.backend.dto.model.schedule.GenerateSemesterSchedulesResponseDto;
+import com.class_manager.backend.dto.model.schedule.LessonDto;
+import com.class_manager.backend.dto.model.schedule.LessonMoveDto;
+import com.class_manager.backend.dto.model.schedule.OccupiedSlot;
+import com.class_manager.backend.dto.model.schedule.RegenerateSchedulesDto;
+import com.class_manager.backend.dto.model.schedule.ResourceConflictDto;
+import com.class_manager.backend.dto.model.schedule.ScheduleDiffDto;
+import com.class_manager.backend.dto.model.schedule.ScannedLesson;
+import com.class_manager.backend.dto.model.schedule.ScheduleBatchDto;
+import com.class_manager.backend.dto.model.schedule.ScheduleCloneConflict;
+import com.class_manager.backend.dto.model.schedule.ScheduleConflict;
 import com.class_manager.backend.dto.model.schedule.ScheduleDto;
 import com.class_manager.backend.dto.model.schedule.ScheduleGenerationError;
+import com.class_manager.backend.dto.model.schedule.ScheduleView;
+import com.class_manager.backend.dto.model.schedule.SchedulePreviewDto;
+import com.class_manager.backend.enums.ConflictType;
+import com.class_manager.backend.enums.GenerationEngine;
+import com.class_manager.backend.enums.GenerationStage;
 import com.class_manager.backend.exceptions.InvalidScheduleException;
 import com.class_manager.backend.model.ClassRoom;
 import com.class_manager.backend.model.Course;
@@ -33,6 +63,24 @@ import com.class_manager.backend.model.User;
 import com.class_manager.backend.repository.GroupRepository;
 import com.class_manager.backend.repository.ScheduleRepository;
 import com.class_manager.backend.repository.TimeSlotRepository;
+import com.class_manager.backend.service.schedule.Cohort;
+import com.class_manager.backend.service.schedule.ConflictScanner;
+import com.class_manager.backend.service.schedule.CourseComponents;
+import com.class_manager.backend.service.schedule.GenerationContext;
+import com.class_manager.backend.service.schedule.GenerationMonitor;
+import com.class_manager.backend.service.schedule.GenerationOutcome;
+import com.class_manager.backend.service.schedule.GenerationResult;
+import com.class_manager.backend.service.schedule.LocalSearchImprover;
+import com.class_manager.backend.service.schedule.ScheduleDiff;
+import com.class_manager.backend.service.schedule.ScheduleGenerationRunner;
+import com.class_manager.backend.service.schedule.ScheduleChangedEvent;
+import com.class_manager.backend.service.schedule.ScheduleLocks;
+import com.class_manager.backend.service.schedule.ScheduleGenerator;
+import com.class_manager.backend.service.schedule.ScheduleOccupancyIndex;
+import com.class_manager.backend.service.schedule.ScheduleWriter;
+import com.class_manager.backend.service.schedule.SemesterOccupancyCache;
+
+import static com.class_manager.backend.utils.TimeSlotUtils.calculateAvailableTimeSlots;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -47,6 +95,13 @@ public class ScheduleService {
 	private final GroupRepository groupRepository;
 	private final TimeSlotRepository timeSlotRepository;
 	private final SemesterService semesterService;
+	private final List<ScheduleGenerator> scheduleGenerators;
+	private final ScheduleGenerationRunner scheduleGenerationRunner;
+	private final LocalSearchImprover localSearchImprover;
+	private final SemesterOccupancyCache semesterOccupancyCache;
+	private final ScheduleWriter scheduleWriter;
+	private final ScheduleLocks scheduleLocks;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * Retrieves all schedules for a specific course and semester.
@@ -59,9 +114,17 @@ public class ScheduleService {
 		return scheduleRepository.findSchedulesBySemesterAndCourse(semesterId, courseId);
 	}
 
-	public List<Schedule> findAllPublicSchedules() {
-		Semester semester = semesterService.findActualSemester();
-		return scheduleRepository.findSchedulesBySemester(semester.getId());
+	/**
+	 * Same as {@link #findAll(Long, Long)}, as flat views read in a single
+	 * query.
+	 *
+	 * @param semesterId the ID of the semester
+	 * @param courseId   the ID of the course
+	 * @return the views of the matching schedules, in week order
+	 */
+	@Transactional(readOnly = true)
+	public List<ScheduleView> findAllViews(Long semesterId, Long courseId) {
+		return scheduleRepository.findScheduleViewsBySemesterAndCourse(semesterId, courseId);
 	}
 
 	/**
@@ -80,22 +143,142 @@ public class ScheduleService {
 	 *
 	 * @param semesterId the ID of the semester
 	 * @param teacherId  the UUID of the teacher
-	 * @return a list of schedules for the teacher
+	 * @return the views of the schedules of the teacher, in week order
+	 */
+	@Transactional(readOnly = true)
+	public List<ScheduleView> findByTeacher(Long semesterId, UUID teacherId) {
+		return scheduleRepository.findScheduleViewsBySemesterAndTeacher(semesterId, teacherId);
+	}
+
+	/**
+	 * Audits a semester for overlapping lessons of the same teacher, class
+	 * room, group or cohort, e.g. lessons created before a validation rule or
+	 * left behind by a teacher change.
+	 *
+	 * All lessons of the semester are loaded with one query and swept once per
+	 * resource by {@link ConflictScanner}.
+	 *
+	 * @param semesterId the ID of the semester
+	 * @return the overlaps found, grouped by resource
+	 */
+	public ConflictScanDto scanConflicts(Long semesterId) {
+		List<ScannedLesson> lessons = scheduleRepository.findScannedLessonsBySemester(semesterId);
+		List<ResourceConflictDto> conflicts = ConflictScanner.scan(lessons);
+		int overlaps = conflicts.stream().mapToInt(conflict -> conflict.overlaps().size()).sum();
+
+		return new ConflictScanDto(semesterId, lessons.size(), overlaps, conflicts);
+	}
+
+	/**
+	 * Finds every slot of the course TimeSlot where a lesson of a group fits:
+	 * its teacher, its class room and the group itself are all free.
+	 *
+	 * The occupancy of the semester is kept in memory, so the slots are found
+	 * in a single pass over the merged minutes of each day, without querying
+	 * the schedules.
+	 *
+	 * @param groupId           the ID of the group
+	 * @param semesterId        the ID of the semester
+	 * @param excludeScheduleId the ID of a lesson of the group being moved, its
+	 *                          current slot is considered free, may be null
+	 * @return the feasible slots, ordered by day and start time
+	 * @throws EntityNotFoundException if the group or the TimeSlot of its course
+	 *                                 is not found
+	 */
+	public List<FeasibleSlotDto> findFeasibleSlots(Long groupId, Long semesterId, Long excludeScheduleId) {
+		Group group = groupRepository.findById(groupId)
+				.orElseThrow(() -> new EntityNotFoundException("Group not found with id: " + groupId));
+
+		TimeSlot timeSlot = timeSlotRepository.findByCourseIdWithDays(group.getDiscipline().getCourse().getId())
+				.orElseThrow(() -> new EntityNotFoundException("Time Slot Not Found."));
+
+		User teacher = group.getDiscipline().getTeacher();
+		ClassRoom classRoom = group.getClassRoom();
+		ScheduleOccupancyIndex occupancy = semesterOccupancyCache.get(semesterId);
+		Schedule excluded = excludeScheduleId != null ? scheduleRepository.findById(excludeScheduleId)
+				.filter(schedule -> schedule.getGroup().getId().equals(groupId)
+						&& schedule.getSemesterId().equals(semesterId))
+				.orElseThrow(() -> new EntityNotFoundException("Schedule not found with id: " + excludeScheduleId))
+				: null;
+
+		List<LocalTime> slots = calculateAvailableTimeSlots(timeSlot);
+		List<FeasibleSlotDto> feasibleSlots = new ArrayList<>();
+
+		for (DayOfWeek day : orderDays(timeSlot)) {
+			BitSet occupied = occupancy.occupiedMinutes(teacher != null ? teacher.getId() : null,
+					classRoom != null ? classRoom.getId() : null, groupId, null, day);
+
+			if (excluded != null && excluded.getDayOfWeek() == day)
+				ScheduleOccupancyIndex.clear(occupied, excluded.getStartTime(), excluded.getEndTime());
+
+			for (LocalTime start : slots) {
+				LocalTime end = start.plusMinutes(timeSlot.getLessonDurationMinutes());
+
+				if (ScheduleOccupancyIndex.isFree(occupied, start, end))
+					feasibleSlots.add(new FeasibleSlotDto(day, start, end));
+			}
+		}
+
+		return feasibleSlots;
+	}
+
+	/**
+	 * Finds every constraint a schedule violates: the course TimeSlot, a
+	 * missing teacher or class room, and the teacher, class room and group
+	 * availability. Nothing is thrown for a conflict, the caller decides what
+	 * to do with the report.
+	 *
+	 * @param schedule the schedule to check
+	 * @return the violated constraints, empty if the schedule is valid
 	 */
-	public List<Schedule> findByTeacher(Long semesterId, UUID teacherId) {
-		return scheduleRepository.findSchedulesBySemesterAndTeacher(semesterId, teacherId);
+	public ConflictReport findConflicts(Schedule schedule) {
+		List<ScheduleConflict> conflicts = new ArrayList<>();
+
+		// Case 1: Course TimeSlot conflict
+		findTimeSlotConflicts(schedule, conflicts);
+
+		// Case 2: Group without a teacher or a class room
+		findMissingResourceConflicts(schedule, conflicts);
+
+		// Case 3: Teacher conflict
+		if (hasTeacherConflict(schedule))
+			conflicts.add(conflictOf(ConflictType.TEACHER));
+
+		// Case 4: Class Room conflict
+		if (hasClassRoomConflict(schedule))
+			conflicts.add(conflictOf(ConflictType.CLASS_ROOM));
+
+		// Case 5: Group already has a Schedule at the same time conflict
+		if (hasGroupConflict(schedule))
+			conflicts.add(conflictOf(ConflictType.GROUP));
+
+		return new ConflictReport(conflicts);
 	}
 
 	/**
 	 * Validates a schedule for conflicts and save to the database if valid.
 	 *
+	 * The teacher, class room and group of the schedule are locked first, so
+	 * no concurrent write on them can slip between the check and the save,
+	 * while edits on other resources proceed in parallel.
+	 *
 	 * @param schedule the schedule to validate and save
 	 * @return the saved schedule
-	 * @throws InvalidScheduleException if any validation fails
+	 * @throws InvalidScheduleException with the conflict report if any
+	 *                                  validation fails
 	 */
+	@Transactional
 	public Schedule validateAndSave(Schedule schedule) {
-		validateNoConflicts(schedule);
-		return scheduleRepository.save(schedule);
+		scheduleLocks.lock(List.of(schedule));
+		ConflictReport report = findConflicts(schedule);
+
+		if (report.hasConflicts())
+			throw new InvalidScheduleException(report);
+
+		// The overlap exclusion constraints catch a conflicting lesson saved since the check
+		Schedule savedSchedule = scheduleWriter.save(schedule);
+		eventPublisher.publishEvent(new ScheduleChangedEvent(savedSchedule.getSemesterId()));
+		return savedSchedule;
 	}
 
 	/**
@@ -108,6 +291,7 @@ public class ScheduleService {
 	 * @throws EntityNotFoundException if the referenced group or schedule is not
 	 *                                 found
 	 */
+	@Transactional
 	public Schedule saveOrUpdate(ScheduleDto dto) {
 		Schedule schedule;
 
@@ -134,118 +318,655 @@ public class ScheduleService {
 
 	/**
 	 * Copies schedules from one semester to another for a specific course.
-	 * Existing schedules in the destination semester are removed.
+	 * Existing schedules in the destination semester are replaced.
+	 *
+	 * The copies are validated in memory against the rest of the destination
+	 * semester and swapped in with a single transaction, so the course is never
+	 * left empty or half copied.
 	 *
 	 * @param dto the DTO containing source and destination semester and course IDs
 	 * @return a list of copied schedules
+	 * @throws InvalidScheduleException if a copied schedule has a conflict
 	 */
 	public List<Schedule> copySchedulesBySemesterAndCourse(CopySchedulesDto dto) {
-		findAndDeleteAllSchedulesBySemesterAndCourse(dto.toSemesterId(), dto.courseId());
+		Semester semester = semesterService.findAndValidateSemesterById(dto.toSemesterId());
+
+		Set<Long> replacedIds = scheduleRepository.findSchedulesBySemesterAndCourse(dto.toSemesterId(),
+				dto.courseId()).stream().map(Schedule::getId).collect(Collectors.toSet());
+
+		ScheduleOccupancyIndex occupancy = ScheduleOccupancyIndex.of(
+				scheduleRepository.findOccupiedSlotsBySemester(dto.toSemesterId()).stream()
+						.filter(slot -> !replacedIds.contains(slot.scheduleId()))
+						.toList());
 
 		List<Schedule> schedulesToBeCopied = scheduleRepository.findSchedulesBySemesterAndCourse(dto.fromSemesterId(),
 				dto.courseId());
+		Optional<TimeSlot> timeSlot = timeSlotRepository.findByCourseIdWithDays(dto.courseId());
 		List<Schedule> copiedSchedules = new ArrayList<>();
-		Semester semester = semesterService.findAndValidateSemesterById(dto.toSemesterId());
 
 		for (Schedule fromSchedule : schedulesToBeCopied) {
 			Schedule toSchedule = new Schedule(fromSchedule);
 			toSchedule.setSemester(semester);
-			copiedSchedules.add(validateAndSave(toSchedule));
+
+			List<ScheduleConflict> conflicts = new ArrayList<>();
+
+			if (timeSlot.isEmpty())
+				conflicts.add(missingTimeSlotConflict(dto.courseId()));
+			else
+				findTimeSlotConflicts(toSchedule, timeSlot.get(), conflicts);
+
+			findMissingResourceConflicts(toSchedule, conflicts);
+			occupancy.findResourceConflicts(toSchedule).forEach(type -> conflicts.add(conflictOf(type)));
+
+			if (!conflicts.isEmpty())
+				throw new InvalidScheduleException(new ConflictReport(conflicts));
+
+			occupancy.occupy(toSchedule);
+			copiedSchedules.add(toSchedule);
+		}
+
+		return scheduleWriter.replaceCourses(dto.toSemesterId(), List.of(dto.courseId()), copiedSchedules);
+	}
+
+	/**
+	 * Clones the schedules of some courses, or of the whole semester, into
+	 * another semester, replacing the ones already there.
+	 *
+	 * The work is done by the database in one transaction: a bulk delete, a
+	 * single query listing the lessons that conflict with the rest of the
+	 * destination semester, and a single INSERT ... SELECT copying all the
+	 * others. Conflicting lessons are reported instead of failing the clone.
+	 *
+	 * @param dto the source and destination semesters and the courses to
+	 *            clone, all courses with schedules in the source when empty
+	 * @return the number of cloned schedules, the cloned courses and the
+	 *         lessons left out
+	 * @throws InvalidScheduleException if both semesters are the same
+	 */
+	@Transactional
+	public CloneSchedulesResponseDto cloneSchedules(CloneSchedulesDto dto) {
+		if (dto.fromSemesterId().equals(dto.toSemesterId())) {
+			throw new InvalidScheduleException("Cannot clone schedules into the semester they come from");
 		}
 
-		return copiedSchedules;
+		semesterService.findAndValidateSemesterById(dto.toSemesterId());
+
+		List<Long> courseIds = dto.courseIds() != null && !dto.courseIds().isEmpty()
+				? dto.courseIds()
+				: scheduleRepository.findCourseIdsBySemester(dto.fromSemesterId());
+
+		if (courseIds.isEmpty())
+			return new CloneSchedulesResponseDto(0, courseIds, List.of());
+
+		int deleted = scheduleRepository.deleteBySemesterAndCourses(dto.toSemesterId(), courseIds);
+		List<ScheduleCloneConflict> conflicts = scheduleRepository.findCloneConflicts(dto.fromSemesterId(),
+				dto.toSemesterId(), courseIds);
+		int cloned = scheduleRepository.cloneSchedules(dto.fromSemesterId(), dto.toSemesterId(), courseIds);
+		eventPublisher.publishEvent(new ScheduleChangedEvent(dto.toSemesterId()));
+
+		log.info("Cloned {} schedules of {} courses from semester {} to {}, replacing {}, {} conflicts", cloned,
+				courseIds.size(), dto.fromSemesterId(), dto.toSemesterId(), deleted, conflicts.size());
+		return new CloneSchedulesResponseDto(cloned, courseIds, conflicts);
 	}
 
 	/**
 	 * Automatically generates schedules for all groups in a course and semester
 	 * based on the available time slots and lesson durations.
 	 *
-	 * Generation uses 3 strategies in order:
-	 * <ul>
-	 * <li>1. Try to allocate all credits in a single day</li>
-	 * <li>2. Try to split credits into two different days</li>
-	 * <li>3. Distribute credits across multiple days</li>
-	 * </ul>
+	 * The timetable is built in memory by the {@link ScheduleGenerator} of the
+	 * requested engine, greedy by default, and then persisted at once. When more
+	 * than one attempt is requested, the attempts run in parallel with different
+	 * seeds and only the best one is persisted.
 	 *
-	 * @param dto the DTO with semester and course IDs
+	 * @param dto the DTO with semester and course IDs, the generation engine and
+	 *            the number of attempts
 	 * @return a response containing the generated schedules and any errors
 	 */
 	public GenerateSchedulesResponseDto generateSchedulesForCourseAndSemester(GenerateSchedulesDto dto) {
+		return generateSchedulesForCourseAndSemester(dto, new GenerationMonitor());
+	}
+
+	/**
+	 * Same as {@link #generateSchedulesForCourseAndSemester(GenerateSchedulesDto)},
+	 * reporting the progress to a monitor that can also cancel the run. The
+	 * current schedules of the course are only replaced once the new timetable
+	 * is ready, so a cancelled run leaves them untouched.
+	 *
+	 * @param dto     the generation request
+	 * @param monitor the progress and cancellation of the run
+	 * @return a response containing the generated schedules and any errors
+	 * @throws java.util.concurrent.CancellationException if the run was cancelled
+	 */
+	public GenerateSchedulesResponseDto generateSchedulesForCourseAndSemester(GenerateSchedulesDto dto,
+			GenerationMonitor monitor) {
+		CoursePlan plan = planCourse(dto, monitor);
+
+		// Past this point the run is no longer cancellable
+		monitor.checkCancelled();
+		monitor.enterStage(GenerationStage.SAVING);
+
+		// The whole timetable is built in memory and swapped in with a single transaction
+		List<Schedule> savedSchedules = scheduleWriter.replaceCourses(dto.semesterId(), List.of(dto.courseId()),
+				plan.outcome().result().schedules());
+		log.info("Generated {} schedules for semester {} and course {} with seed {}", savedSchedules.size(),
+				dto.semesterId(), dto.courseId(), plan.outcome().seed());
+
+		monitor.enterStage(GenerationStage.DONE);
+		return new GenerateSchedulesResponseDto(savedSchedules, plan.errors(), plan.outcome().seed(),
+				plan.reproducible());
+	}
+
+	/**
+	 * Runs a course generation without writing anything, and compares the
+	 * proposed timetable with the persisted one. The diff can then be applied
+	 * with {@link #commitScheduleDiff(CommitScheduleDiffDto)}.
+	 *
+	 * @param dto the generation request
+	 * @return the proposed schedules (not persisted), the diff, the errors and
+	 *         the seed
+	 */
+	public SchedulePreviewDto previewSchedulesForCourseAndSemester(GenerateSchedulesDto dto) {
+		CoursePlan plan = planCourse(dto, new GenerationMonitor());
+		List<Schedule> proposedSchedules = plan.outcome().result().schedules();
+
+		return new SchedulePreviewDto(proposedSchedules, ScheduleDiff.of(plan.currentSchedules(), proposedSchedules),
+				plan.errors(), plan.outcome().seed(), plan.reproducible());
+	}
+
+	/**
+	 * Applies a diff accepted from a preview in a single transaction: removed
+	 * lessons are deleted, moved ones updated and added ones inserted, all in
+	 * batches.
+	 *
+	 * The diff is checked against the current state, it is rejected if any of
+	 * its lessons no longer exists or if the result would have a conflict,
+	 * either with the course TimeSlot or with the occupancy of the semester.
+	 * The end of every moved and added lesson is computed from the lesson
+	 * duration, as in a batch.
+	 *
+	 * @param dto the course, the semester and the diff to apply
+	 * @return the moved and added schedules
+	 * @throws InvalidScheduleException if the diff no longer applies, with the
+	 *                                  conflict report if the result would
+	 *                                  have a conflict
+	 */
+	@Transactional
+	public List<Schedule> commitScheduleDiff(CommitScheduleDiffDto dto) {
+		Semester semester = semesterService.findAndValidateSemesterById(dto.semesterId());
+		ScheduleDiffDto diff = dto.diff();
+		TimeSlot timeSlot = timeSlotRepository.findByCourseIdWithDays(dto.courseId())
+				.orElseThrow(() -> new InvalidScheduleException(
+						new ConflictReport(List.of(missingTimeSlotConflict(dto.courseId())))));
+
+		Map<Long, Schedule> currentSchedules = new HashMap<>();
+
+		for (Schedule schedule : scheduleRepository.findSchedulesBySemesterAndCourse(dto.semesterId(),
+				dto.courseId())) {
+			currentSchedules.put(schedule.getId(), schedule);
+		}
+
+		Set<Long> touchedIds = new HashSet<>();
+		diff.removed().forEach(lesson -> touchedIds.add(lesson.scheduleId()));
+		diff.moved().forEach(move -> touchedIds.add(move.scheduleId()));
+
+		for (Long id : touchedIds) {
+			if (!currentSchedules.containsKey(id)) {
+				throw new InvalidScheduleException(
+						"Schedule with id:" + id + " is no longer part of the timetable, generate a new preview");
+			}
+		}
+
+		List<Schedule> changedSchedules = new ArrayList<>();
+
+		for (LessonMoveDto move : diff.moved()) {
+			Schedule schedule = currentSchedules.get(move.scheduleId());
+			schedule.setDayOfWeek(move.dayOfWeek());
+			schedule.setStartTime(move.startTime());
+			changedSchedules.add(schedule);
+		}
+
+		Map<Long, Group> groups = new HashMap<>();
+
+		for (Group group : groupRepository.findAllById(diff.added().stream().map(LessonDto::groupId).toList())) {
+			groups.put(group.getId(), group);
+		}
+
+		for (LessonDto lesson : diff.added()) {
+			Group group = groups.get(lesson.groupId());
+
+			if (group == null || !group.getDiscipline().getCourse().getId().equals(dto.courseId())) {
+				throw new InvalidScheduleException(
+						"Group with id:" + lesson.groupId() + " does not belong to course with id:" + dto.courseId());
+			}
+
+			Schedule schedule = new Schedule();
+			schedule.setGroup(group);
+			schedule.setSemester(semester);
+			schedule.setDayOfWeek(lesson.dayOfWeek());
+			schedule.setStartTime(lesson.startTime());
+			changedSchedules.add(schedule);
+		}
+
+		for (Schedule schedule : changedSchedules) {
+			schedule.setEndTime(schedule.getStartTime().plusMinutes(timeSlot.getLessonDurationMinutes()));
+		}
+
+		// Locked before reading the occupancy, so it cannot change until the commit
+		scheduleLocks.lock(changedSchedules);
+
+		ScheduleOccupancyIndex occupancy = ScheduleOccupancyIndex.of(
+				scheduleRepository.findOccupiedSlotsBySemester(dto.semesterId()).stream()
+						.filter(slot -> !touchedIds.contains(slot.scheduleId()))
+						.toList());
+
+		List<ScheduleConflict> conflicts = new ArrayList<>();
+
+		for (Schedule schedule : changedSchedules) {
+			List<ScheduleConflict> lessonConflicts = new ArrayList<>();
+			findTimeSlotConflicts(schedule, timeSlot, lessonConflicts);
+			findMissingResourceConflicts(schedule, lessonConflicts);
+			occupancy.findResourceConflicts(schedule).forEach(type -> lessonConflicts.add(conflictOf(type)));
+
+			// Taken even when conflicting, so the following lessons are checked against it
+			occupancy.occupy(schedule);
+			lessonConflicts.forEach(conflict -> conflicts.add(atLesson(schedule, conflict)));
+		}
+
+		if (!conflicts.isEmpty())
+			throw new InvalidScheduleException(new ConflictReport(conflicts));
+
+		List<Schedule> savedSchedules = scheduleWriter.replace(dto.semesterId(),
+				diff.removed().stream().map(LessonDto::scheduleId).toList(), changedSchedules);
+
+		log.info("Committed diff for semester {} and course {}: {} added, {} removed, {} moved", dto.semesterId(),
+				dto.courseId(), diff.added().size(), diff.removed().size(), diff.moved().size());
+		return savedSchedules;
+	}
+
+	/**
+	 * Applies many manual changes to the timetable of a semester at once:
+	 * lessons created, moved and deleted.
+	 *
+	 * The whole batch is validated in a single pass over the occupancy of the
+	 * semester, as it will be once the moved and deleted lessons leave their
+	 * current slots, so conflicts among the operations themselves are found
+	 * too. Every conflict is reported, and the batch is then written with
+	 * batched statements in the same transaction, or not at all.
+	 *
+	 * @param dto the semester and the operations
+	 * @return the created and moved schedules
+	 * @throws EntityNotFoundException  if a schedule or group is not found
+	 * @throws InvalidScheduleException with the conflict report if any
+	 *                                  operation is not valid
+	 */
+	@Transactional
+	public List<Schedule> applyScheduleBatch(ScheduleBatchDto dto) {
+		Semester semester = semesterService.findAndValidateSemesterById(dto.semesterId());
+
+		Set<Long> touchedIds = new HashSet<>(dto.deleted());
+		dto.moved().forEach(move -> touchedIds.add(move.scheduleId()));
+
+		if (touchedIds.size() != dto.deleted().size() + dto.moved().size()) {
+			throw new InvalidScheduleException("A schedule can only be moved or deleted once in a batch");
+		}
+
+		Map<Long, Schedule> touchedSchedules = new HashMap<>();
+
+		for (Schedule schedule : scheduleRepository.findAllById(touchedIds)) {
+			if (schedule.getSemesterId().equals(dto.semesterId()))
+				touchedSchedules.put(schedule.getId(), schedule);
+		}
+
+		for (Long id : touchedIds) {
+			if (!touchedSchedules.containsKey(id))
+				throw new EntityNotFoundException("Schedule not found with id: " + id);
+		}
+
+		Map<Long, Group> groups = new HashMap<>();
+
+		for (Group group : groupRepository.findAllById(dto.created().stream().map(ScheduleDto::groupId).toList())) {
+			groups.put(group.getId(), group);
+		}
+
+		// The lessons as they will be after the batch
+		List<Schedule> changedSchedules = new ArrayList<>();
+
+		for (ScheduleDto move : dto.moved()) {
+			Schedule schedule = touchedSchedules.get(move.scheduleId());
+			schedule.setDayOfWeek(move.dayOfWeek());
+			schedule.setStartTime(move.startTime());
+			changedSchedules.add(schedule);
+		}
+
+		for (ScheduleDto created : dto.created()) {
+			Group group = groups.get(created.groupId());
+
+			if (group == null)
+				throw new EntityNotFoundException("Group not found with id: " + created.groupId());
+
+			Schedule schedule = new Schedule(created);
+			schedule.setGroup(group);
+			schedule.setSemester(semester);
+			changedSchedules.add(schedule);
+		}
+
+		Map<Long, TimeSlot> timeSlots = new HashMap<>();
+
+		for (TimeSlot timeSlot : timeSlotRepository.findAllByCourseIdsWithDays(changedSchedules.stream()
+				.map(schedule -> schedule.getGroup().getDiscipline().getCourse().getId())
+				.collect(Collectors.toSet()))) {
+			timeSlots.put(timeSlot.getCourse().getId(), timeSlot);
+		}
+
+		// Locked before reading the occupancy, so it cannot change until the commit
+		scheduleLocks.lock(changedSchedules);
+
+		ScheduleOccupancyIndex occupancy = ScheduleOccupancyIndex.of(
+				scheduleRepository.findOccupiedSlotsBySemester(dto.semesterId()).stream()
+						.filter(slot -> !touchedIds.contains(slot.scheduleId()))
+						.toList());
+
+		List<ScheduleConflict> conflicts = new ArrayList<>();
+
+		for (Schedule schedule : changedSchedules) {
+			Long courseId = schedule.getGroup().getDiscipline().getCourse().getId();
+			TimeSlot timeSlot = timeSlots.get(courseId);
+			List<ScheduleConflict> lessonConflicts = new ArrayList<>();
+
+			if (timeSlot == null) {
+				lessonConflicts.add(missingTimeSlotConflict(courseId));
+			} else {
+				schedule.setEndTime(schedule.getStartTime().plusMinutes(timeSlot.getLessonDurationMinutes()));
+				findTimeSlotConflicts(schedule, timeSlot, lessonConflicts);
+				findMissingResourceConflicts(schedule, lessonConflicts);
+				occupancy.findResourceConflicts(schedule).forEach(type -> lessonConflicts.add(conflictOf(type)));
+
+				// Taken even when conflicting, so the following operations are checked against it
+				occupancy.occupy(schedule);
+			}
+
+			lessonConflicts.forEach(conflict -> conflicts.add(atLesson(schedule, conflict)));
+		}
+
+		if (!conflicts.isEmpty())
+			throw new InvalidScheduleException(new ConflictReport(conflicts));
+
+		List<Schedule> savedSchedules = scheduleWriter.replace(dto.semesterId(), dto.deleted(), changedSchedules);
+		log.info("Applied batch to semester {}: {} created, {} moved, {} deleted", dto.semesterId(),
+				dto.created().size(), dto.moved().size(), dto.deleted().size());
+		return savedSchedules;
+	}
+
+	/**
+	 * Builds the timetable of a course in memory, without writing anything.
+	 */
+	private CoursePlan planCourse(GenerateSchedulesDto dto, GenerationMonitor monitor) {
+		monitor.enterStage(GenerationStage.LOADING);
+
 		Semester semester = semesterService.findAndValidateSemesterById(dto.semesterId());
 		TimeSlot timeSlot = timeSlotRepository.findByCourseIdWithDays(dto.courseId())
 				.orElseThrow(() -> new EntityNotFoundException("Time Slot Not Found."));
 
-		findAndDeleteAllSchedulesBySemesterAndCourse(dto.semesterId(), dto.courseId());
+		List<Schedule> currentSchedules = scheduleRepository.findSchedulesBySemesterAndCourse(dto.semesterId(),
+				dto.courseId());
+		Set<Long> replacedIds = currentSchedules.stream().map(Schedule::getId).collect(Collectors.toSet());
 
-		List<Group> groups = groupRepository.findAllByCourse(dto.courseId());
-		List<Schedule> generatedSchedules = new ArrayList<>();
+		// Loads the whole semester once, every conflict check is done in memory
+		ScheduleOccupancyIndex occupancy = ScheduleOccupancyIndex.of(
+				scheduleRepository.findOccupiedSlotsBySemester(dto.semesterId()).stream()
+						.filter(slot -> !replacedIds.contains(slot.scheduleId()))
+						.toList());
+
+		List<Group> groups = new ArrayList<>();
 		List<ScheduleGenerationError> errors = new ArrayList<>();
 
-		groups.sort(Comparator.comparingInt(group -> {
-			Integer credits = group.getDiscipline().getCredits();
-			return credits != null ? -credits : 0;
-		}));
+		for (Group group : groupRepository.findAllByCourse(dto.courseId())) {
+			if (isSchedulable(group, errors))
+				groups.add(group);
+		}
 
-		List<LocalTime> availableSlots = calculateAvailableTimeSlots(timeSlot);
-		Map<DayOfWeek, List<LocalTime>> dayAvailabilityMap = new HashMap<>();
-		List<DayOfWeek> orderedDays = new ArrayList<>(timeSlot.getDaysOfWeek());
-		orderedDays.sort(Comparator.comparingInt(DayOfWeek::getValue));
+		sortByPriority(groups);
+
+		long seed = dto.seed() != null ? dto.seed() : ThreadLocalRandom.current().nextLong();
+		int attempts = dto.attempts() != null ? dto.attempts() : 1;
+
+		GenerationContext context = new GenerationContext(semester, timeSlot, groups, orderDays(timeSlot),
+				calculateAvailableTimeSlots(timeSlot), occupancy, new Random(seed), dto.timeBudgetMillis(), monitor,
+				null);
+
+		monitor.enterStage(GenerationStage.GENERATING);
+		ScheduleGenerator generator = findGenerator(dto.engine());
+		GenerationOutcome outcome = scheduleGenerationRunner.run(generator, context, attempts, seed);
+		errors.addAll(outcome.result().errors());
+
+		// Optional improvement of the winning timetable, skipped when its time limit is zero
+		monitor.enterStage(GenerationStage.IMPROVING);
+		localSearchImprover.improve(outcome.context(), outcome.result(), dto.improvementTimeMillis());
+
+		// The time budget of backtracking and the time limit of the improvement both depend on the clock
+		boolean reproducible = generator.isReproducible() && !localSearchImprover.isEnabled(dto.improvementTimeMillis());
+		return new CoursePlan(currentSchedules, outcome, errors, reproducible);
+	}
+
+	/**
+	 * Regenerates only the lessons affected by a change, keeping the rest of the
+	 * course timetable, manual edits included, in place.
+	 *
+	 * The lessons of the given groups (and of the groups of the given
+	 * disciplines) are removed, as well as any other lesson of the course that
+	 * now conflicts with the pinned ones, e.g. after a teacher change. Then the
+	 * missing credits of every group are placed again around the pinned
+	 * lessons, which also covers groups created since the last generation.
+	 *
+	 * @param dto the DTO with semester and course IDs, the changed groups and
+	 *            disciplines and the generation options
+	 * @return a response containing the new schedules and any errors
+	 */
+	public GenerateSchedulesResponseDto regenerateSchedulesForGroups(RegenerateSchedulesDto dto) {
+		Semester semester = semesterService.findAndValidateSemesterById(dto.semesterId());
+		TimeSlot timeSlot = timeSlotRepository.findByCourseIdWithDays(dto.courseId())
+				.orElseThrow(() -> new EntityNotFoundException("Time Slot Not Found."));
+
+		List<Group> courseGroups = groupRepository.findAllByCourse(dto.courseId());
+		Set<Long> changedGroupIds = new HashSet<>(dto.groupIds() != null ? dto.groupIds() : List.of());
+		Set<Long> changedDisciplineIds = new HashSet<>(dto.disciplineIds() != null ? dto.disciplineIds() : List.of());
 
-		for (DayOfWeek day : timeSlot.getDaysOfWeek()) {
-			dayAvailabilityMap.put(day, new ArrayList<>(availableSlots));
+		for (Group group : courseGroups) {
+			if (changedDisciplineIds.contains(group.getDiscipline().getId()))
+				changedGroupIds.add(group.getId());
 		}
 
-		for (Group group : groups) {
-			int creditsToSchedule = group.getDiscipline().getCredits();
-			int scheduled = 0;
-			int attempts = 0;
-			final int MAX_ATTEMPTS = creditsToSchedule * 100;
+		Map<Long, Schedule> courseSchedules = new HashMap<>();
 
-			// Strategy 1: Try to allocate all credits on the same day
-			boolean strategy1Success = tryScheduleInOneDay(group, semester, timeSlot,
-					dayAvailabilityMap, creditsToSchedule, generatedSchedules, orderedDays);
+		for (Schedule schedule : scheduleRepository.findSchedulesBySemesterAndCourse(dto.semesterId(),
+				dto.courseId())) {
+			courseSchedules.put(schedule.getId(), schedule);
+		}
 
-			if (strategy1Success) {
+		List<OccupiedSlot> slots = scheduleRepository.findOccupiedSlotsBySemester(dto.semesterId());
+		ScheduleOccupancyIndex occupancy = ScheduleOccupancyIndex.of(slots.stream()
+				.filter(slot -> !courseSchedules.containsKey(slot.scheduleId()))
+				.toList());
+
+		// Lessons of the course are pinned one by one, in id order, dropping the ones that no longer fit
+		List<Schedule> removedSchedules = new ArrayList<>();
+		Map<Long, Integer> pinnedPerGroup = new HashMap<>();
+
+		for (OccupiedSlot slot : slots.stream()
+				.filter(slot -> courseSchedules.containsKey(slot.scheduleId()))
+				.sorted(Comparator.comparing(OccupiedSlot::scheduleId))
+				.toList()) {
+			// Kept even when overlapping its cohort, only the new lessons are kept apart from it
+			Cohort cohort = Cohort.of(slot.courseId(), slot.semesterOfCourse());
+			boolean fits = !changedGroupIds.contains(slot.groupId()) && occupancy.isAvailable(slot.teacherId(),
+					slot.classRoomId(), slot.groupId(), null, slot.dayOfWeek(), slot.startTime(), slot.endTime());
+
+			if (!fits) {
+				removedSchedules.add(courseSchedules.get(slot.scheduleId()));
 				continue;
 			}
 
-			// Strategy 2: Try to allocate credits across two days (half each)
-			if (creditsToSchedule >= 2) {
-				int creditsPerDay = (int) Math.ceil(creditsToSchedule / 2.0);
-				boolean strategy2Success = tryScheduleInTwoDays(group, semester, timeSlot,
-						dayAvailabilityMap, creditsPerDay, generatedSchedules, orderedDays);
+			occupancy.occupy(slot.teacherId(), slot.classRoomId(), slot.groupId(), cohort, slot.dayOfWeek(),
+					slot.startTime(), slot.endTime());
+			pinnedPerGroup.merge(slot.groupId(), 1, Integer::sum);
+		}
+
+		List<Group> groups = new ArrayList<>();
+		List<ScheduleGenerationError> errors = new ArrayList<>();
+		Map<Long, Integer> creditsToPlace = new HashMap<>();
 
-				if (strategy2Success) {
-					continue;
-				}
-			}
+		for (Group group : courseGroups) {
+			int missing = group.getDiscipline().getCredits() - pinnedPerGroup.getOrDefault(group.getId(), 0);
+
+			if (missing <= 0 || !isSchedulable(group, errors))
+				continue;
+
+			groups.add(group);
+			creditsToPlace.put(group.getId(), missing);
+		}
+
+		sortByPriority(groups);
+
+		long seed = dto.seed() != null ? dto.seed() : ThreadLocalRandom.current().nextLong();
+		int attempts = dto.attempts() != null ? dto.attempts() : 1;
 
-			// Strategy 3: Allocate credits across multiple days (1 credit per day)
-			while (scheduled < creditsToSchedule && attempts < MAX_ATTEMPTS) {
-				attempts++;
-				DayOfWeek day = findBestDayForGroup(group, dayAvailabilityMap, timeSlot, orderedDays);
+		GenerationContext context = new GenerationContext(semester, timeSlot, groups, orderDays(timeSlot),
+				calculateAvailableTimeSlots(timeSlot), occupancy, new Random(seed), dto.timeBudgetMillis(),
+				new GenerationMonitor(), creditsToPlace);
 
-				Schedule newSchedule = createRandomScheduleOnDay(group, semester, timeSlot, dayAvailabilityMap, day);
+		ScheduleGenerator generator = findGenerator(dto.engine());
+		GenerationOutcome outcome = scheduleGenerationRunner.run(generator, context, attempts, seed);
+		errors.addAll(outcome.result().errors());
 
-				try {
-					Schedule savedSchedule = validateAndSave(newSchedule);
-					generatedSchedules.add(savedSchedule);
-					scheduled++;
+		List<Schedule> savedSchedules = scheduleWriter.replace(dto.semesterId(),
+				removedSchedules.stream().map(Schedule::getId).toList(), outcome.result().schedules());
+		log.info("Regenerated {} groups of course {} in semester {}: removed {} schedules, kept {}, created {}",
+				groups.size(), dto.courseId(), dto.semesterId(), removedSchedules.size(),
+				courseSchedules.size() - removedSchedules.size(), savedSchedules.size());
 
-					dayAvailabilityMap.get(day).remove(newSchedule.getStartTime());
-				} catch (InvalidScheduleException e) {
-					log.error("Error scheduling class for group: " + group.getName(), e);
+		return new GenerateSchedulesResponseDto(savedSchedules, errors, outcome.seed(), generator.isReproducible());
+	}
+
+	/**
+	 * Generates the schedules of every active course of a semester in a single
+	 * run.
+	 *
+	 * All courses, TimeSlots and groups are loaded at once. The courses are
+	 * split into independent components (courses sharing no teacher or class
+	 * room), which are generated in parallel. The courses of a component are
+	 * generated one after the other over the same occupancy, the ones with
+	 * more credits first, so each one sees the lessons of the previous ones.
+	 * Courses without a TimeSlot are left untouched.
+	 *
+	 * @param dto the DTO with the semester ID and the generation options
+	 * @return a summary of each generated course and the seed of the run
+	 */
+	public GenerateSemesterSchedulesResponseDto generateSchedulesForSemester(GenerateSemesterSchedulesDto dto) {
+		GenerationMonitor monitor = new GenerationMonitor();
+		monitor.enterStage(GenerationStage.LOADING);
+
+		Semester semester = semesterService.findAndValidateSemesterById(dto.semesterId());
+		Map<Long, TimeSlot> timeSlots = new HashMap<>();
+
+		for (TimeSlot timeSlot : timeSlotRepository.findAllOfActiveCoursesWithDays()) {
+			timeSlots.put(timeSlot.getCourse().getId(), timeSlot);
+		}
+
+		// Sorted by course id, so a seed always reproduces the same timetables
+		Map<Long, List<Group>> groupsByCourse = new TreeMap<>();
+		Map<Long, List<ScheduleGenerationError>> errorsByCourse = new HashMap<>();
+
+		for (Group group : groupRepository.findAllOfActiveCourses()) {
+			Long courseId = group.getDiscipline().getCourse().getId();
+
+			if (!timeSlots.containsKey(courseId))
+				continue;
+
+			List<Group> groups = groupsByCourse.computeIfAbsent(courseId, id -> new ArrayList<>());
+			List<ScheduleGenerationError> errors = errorsByCourse.computeIfAbsent(courseId, id -> new ArrayList<>());
+
+			if (isSchedulable(group, errors))
+				groups.add(group);
+		}
+
+		groupsByCourse.values().forEach(this::sortByPriority);
+
+		List<OccupiedSlot> slots = scheduleRepository.findOccupiedSlotsBySemester(dto.semesterId());
+		Set<Long> replacedIds = slots.stream()
+				.filter(slot -> groupsByCourse.containsKey(slot.courseId()))
+				.map(OccupiedSlot::scheduleId)
+				.collect(Collectors.toSet());
+
+		ScheduleOccupancyIndex occupancy = ScheduleOccupancyIndex.of(slots.stream()
+				.filter(slot -> !replacedIds.contains(slot.scheduleId()))
+				.toList());
+
+		long seed = dto.seed() != null ? dto.seed() : ThreadLocalRandom.current().nextLong();
+		int attempts = dto.attempts() != null ? dto.attempts() : 1;
+		ScheduleGenerator generator = findGenerator(dto.engine());
+
+		List<List<Long>> components = CourseComponents.split(groupsByCourse);
+		List<Callable<List<CourseGeneration>>> tasks = new ArrayList<>();
+
+		for (List<Long> component : components) {
+			List<Long> courses = new ArrayList<>(component);
+			courses.sort(Comparator.<Long>comparingInt(courseId -> -totalCredits(groupsByCourse.get(courseId)))
+					.thenComparing(Comparator.naturalOrder()));
+
+			tasks.add(() -> {
+				// Each component only writes to its own teachers, class rooms and groups
+				ScheduleOccupancyIndex componentOccupancy = occupancy.copy();
+				GenerationMonitor componentMonitor = new GenerationMonitor();
+				List<CourseGeneration> generations = new ArrayList<>();
+
+				for (Long courseId : courses) {
+					TimeSlot timeSlot = timeSlots.get(courseId);
+					long courseSeed = ScheduleGenerationRunner.deriveSeed(seed, courseId);
+
+					GenerationContext context = new GenerationContext(semester, timeSlot, groupsByCourse.get(courseId),
+							orderDays(timeSlot), calculateAvailableTimeSlots(timeSlot), componentOccupancy,
+							new Random(courseSeed), dto.timeBudgetMillis(), componentMonitor, null);
+
+					// Already on the generation pool, so the attempts run one after the other in this task
+					GenerationOutcome outcome = scheduleGenerationRunner.run(generator, context, attempts, courseSeed);
+					localSearchImprover.improve(outcome.context(), outcome.result(), dto.improvementTimeMillis());
+
+					componentOccupancy = outcome.context().occupancy();
+					generations.add(new CourseGeneration(courseId, timeSlot.getCourse().getName(), outcome.result()));
 				}
-			}
 
-			if (scheduled < creditsToSchedule) {
-				errors.add(new ScheduleGenerationError(
-						group.getId(), group.getName(),
-						"Scheduled only " + scheduled + "/" + creditsToSchedule + " credits"));
-			}
+				return generations;
+			});
+		}
+
+		monitor.enterStage(GenerationStage.GENERATING);
+		List<CourseGeneration> generations = scheduleGenerationRunner.runAll(tasks).stream()
+				.flatMap(List::stream)
+				.sorted(Comparator.comparing(CourseGeneration::courseId))
+				.toList();
+
+		monitor.enterStage(GenerationStage.SAVING);
+
+		List<Schedule> generatedSchedules = new ArrayList<>();
+		List<CourseGenerationSummaryDto> summaries = new ArrayList<>();
+
+		for (CourseGeneration generation : generations) {
+			List<ScheduleGenerationError> errors = errorsByCourse.get(generation.courseId());
+			errors.addAll(generation.result().errors());
+
+			generatedSchedules.addAll(generation.result().schedules());
+			summaries.add(new CourseGenerationSummaryDto(generation.courseId(), generation.courseName(),
+					generation.result().schedules().size(), errors));
 		}
 
-		return new GenerateSchedulesResponseDto(generatedSchedules, errors);
+		scheduleWriter.replaceCourses(dto.semesterId(), groupsByCourse.keySet(), generatedSchedules);
+		log.info("Generated {} schedules for {} courses ({} independent components) of semester {} with seed {}",
+				generatedSchedules.size(), generations.size(), components.size(), dto.semesterId(), seed);
+
+		boolean reproducible = generator.isReproducible() && !localSearchImprover.isEnabled(dto.improvementTimeMillis());
+
+		monitor.enterStage(GenerationStage.DONE);
+		return new GenerateSemesterSchedulesResponseDto(summaries, components.size(), seed, reproducible);
 	}
 
 	/**
@@ -254,7 +975,10 @@ public class ScheduleService {
 	 * @param id the ID of the schedule to delete
 	 */
 	public void deleteById(Long id) {
-		scheduleRepository.deleteById(id);
+		scheduleRepository.findById(id).ifPresent(schedule -> {
+			scheduleRepository.delete(schedule);
+			eventPublisher.publishEvent(new ScheduleChangedEvent(schedule.getSemesterId()));
+		});
 	}
 
 	// ──────────────────────── Private Methods ──────────────────────── //
@@ -280,392 +1004,214 @@ public class ScheduleService {
 	}
 
 	/**
-	 * Validates if the schedule respects the course's configured TimeSlot
+	 * Checks if the schedule respects the course's configured TimeSlot
 	 * constraints.
 	 *
-	 * @param schedule the schedule to validate
-	 * @throws InvalidScheduleException if the schedule is outside allowed time or
-	 *                                  day range
+	 * @param schedule  the schedule to check
+	 * @param conflicts the list where the violated constraints are added
 	 */
-	private void validateScheduleAgainstTimeSlot(Schedule schedule) {
+	private void findTimeSlotConflicts(Schedule schedule, List<ScheduleConflict> conflicts) {
 		Course course = schedule.getGroup().getDiscipline().getCourse();
-		Long courseId = course.getId();
+		Optional<TimeSlot> courseTimeSlot = timeSlotRepository.findByCourseId(course.getId());
 
-		TimeSlot timeSlot = timeSlotRepository.findByCourseId(courseId)
-				.orElseThrow(() -> new InvalidScheduleException(
-						"Course with id:" + courseId + " does not have a TimeSlot configured"));
+		if (courseTimeSlot.isEmpty()) {
+			conflicts.add(missingTimeSlotConflict(course.getId()));
+			return;
+		}
+
+		findTimeSlotConflicts(schedule, courseTimeSlot.get(), conflicts);
+	}
 
+	/**
+	 * Same as {@link #findTimeSlotConflicts(Schedule, List)}, with the TimeSlot
+	 * of the course already loaded.
+	 */
+	private void findTimeSlotConflicts(Schedule schedule, TimeSlot timeSlot, List<ScheduleConflict> conflicts) {
 		// Day of Week Validation
 		if (!timeSlot.getDaysOfWeek().contains(schedule.getDayOfWeek())) {
-			throw new InvalidScheduleException("Day of the week not allowed for this course");
+			conflicts.add(new ScheduleConflict(ConflictType.TIME_SLOT, "Day of the week not allowed for this course"));
 		}
 
 		// Time Validation
 		if (schedule.getStartTime().isBefore(timeSlot.getStartTime())) {
-			throw new InvalidScheduleException("Start time outside of TimeSlot");
+			conflicts.add(new ScheduleConflict(ConflictType.TIME_SLOT, "Start time outside of TimeSlot"));
 		}
 
 		if (schedule.getEndTime().isAfter(timeSlot.getEndTime())) {
-			throw new InvalidScheduleException("End time outside TimeSlot");
+			conflicts.add(new ScheduleConflict(ConflictType.TIME_SLOT, "End time outside TimeSlot"));
 		}
 
 		// Lesson Duration Validation
 		long duration = Duration.between(schedule.getStartTime(), schedule.getEndTime()).toMinutes();
 
 		if (duration != timeSlot.getLessonDurationMinutes()) {
-			throw new InvalidScheduleException("Lesson duration does not match TimeSlot");
+			conflicts.add(new ScheduleConflict(ConflictType.TIME_SLOT, "Lesson duration does not match TimeSlot"));
 		}
 	}
 
 	/**
-	 * Validates if the teacher is available at the given time.
+	 * Reports a group without a teacher or a class room, its lessons cannot be
+	 * held.
+	 *
+	 * @param schedule  the schedule to check
+	 * @param conflicts the list where the missing resources are added
+	 */
+	private void findMissingResourceConflicts(Schedule schedule, List<ScheduleConflict> conflicts) {
+		if (schedule.getGroup().getDiscipline().getTeacher() == null)
+			conflicts.add(new ScheduleConflict(ConflictType.TEACHER, "Discipline has no teacher assigned"));
+
+		if (schedule.getGroup().getClassRoom() == null)
+			conflicts.add(new ScheduleConflict(ConflictType.CLASS_ROOM, "Group has no class room assigned"));
+	}
+
+	/**
+	 * Checks if the teacher is available at the given time.
 	 *
-	 * @param schedule the schedule to validate
-	 * @throws InvalidScheduleException if the teacher already has a class at that
-	 *                                  time
+	 * @param schedule the schedule to check
+	 * @return true if the teacher already has a class at that time, false if
+	 *         the discipline has no teacher
 	 */
-	private void validateTeacherAvailability(Schedule schedule) {
+	private boolean hasTeacherConflict(Schedule schedule) {
 		User teacher = schedule.getGroup().getDiscipline().getTeacher();
 
 		if (teacher == null)
-			throw new IllegalArgumentException("Invalid Teacher");
+			return false;
 
-		boolean hasConflict = scheduleRepository.existsByTeacherAndTime(
+		return scheduleRepository.existsByTeacherAndTime(
 				teacher.getId(),
 				schedule.getSemesterId(),
-				schedule.getDayOfWeek(),
-				schedule.getStartTime(),
-				schedule.getEndTime(),
+				Schedule.minuteOfWeek(schedule.getDayOfWeek(), schedule.getStartTime()),
+				Schedule.endMinuteOfWeek(schedule.getDayOfWeek(), schedule.getStartTime(), schedule.getEndTime()),
 				schedule.getId() // To ignore own registration in updates
 		);
-
-		if (hasConflict) {
-			throw new InvalidScheduleException("Teacher already has a lesson scheduled for this time");
-		}
 	}
 
 	/**
-	 * Validates if the classroom is available at the given time.
+	 * Checks if the classroom is available at the given time.
 	 *
-	 * @param schedule the schedule to validate
-	 * @throws InvalidScheduleException if the classroom is already occupied
+	 * @param schedule the schedule to check
+	 * @return true if the classroom is already occupied, false if the group
+	 *         has no class room
 	 */
-	private void validateClassRoomAvailability(Schedule schedule) {
+	private boolean hasClassRoomConflict(Schedule schedule) {
 		ClassRoom classRoom = schedule.getGroup().getClassRoom();
 
 		if (classRoom == null)
-			throw new IllegalArgumentException("Invalid Class Room");
+			return false;
 
-		boolean hasConflict = scheduleRepository.existsByClassRoomAndTime(
+		return scheduleRepository.existsByClassRoomAndTime(
 				classRoom.getId(),
 				schedule.getSemesterId(),
-				schedule.getDayOfWeek(),
-				schedule.getStartTime(),
-				schedule.getEndTime(),
+				Schedule.minuteOfWeek(schedule.getDayOfWeek(), schedule.getStartTime()),
+				Schedule.endMinuteOfWeek(schedule.getDayOfWeek(), schedule.getStartTime(), schedule.getEndTime()),
 				schedule.getId() // To ignore own registration in updates
 		);
-
-		if (hasConflict) {
-			throw new InvalidScheduleException("Class Room already occupied at this time");
-		}
 	}
 
 	/**
-	 * Validates if the group does not already have a schedule at the same time.
+	 * Checks if the group does not already have a schedule overlapping the given
+	 * time.
 	 *
-	 * @param schedule the schedule to validate
-	 * @throws InvalidScheduleException if the group already has a schedule at that
-	 *                                  time
+	 * @param schedule the schedule to check
+	 * @return true if the group already has a schedule at that time
 	 */
-	private void validateGroupAvailability(Schedule schedule) {
-		Long groupId = schedule.getGroup().getId();
-
-		boolean hasConflict = scheduleRepository.existsByGroupAndTime(
-				groupId,
+	private boolean hasGroupConflict(Schedule schedule) {
+		return scheduleRepository.existsByGroupAndTime(
+				schedule.getGroup().getId(),
 				schedule.getSemesterId(),
-				schedule.getDayOfWeek(),
-				schedule.getStartTime(),
-				schedule.getEndTime(),
+				Schedule.minuteOfWeek(schedule.getDayOfWeek(), schedule.getStartTime()),
+				Schedule.endMinuteOfWeek(schedule.getDayOfWeek(), schedule.getStartTime(), schedule.getEndTime()),
 				schedule.getId());
-
-		if (hasConflict) {
-			throw new InvalidScheduleException("Group already has an schedule at this time");
-		}
 	}
 
 	/**
-	 * Runs all conflict validations for a schedule.
-	 *
-	 * @param schedule the schedule to validate
+	 * Prefixes a conflict with the lesson it was found for, so the conflicts of
+	 * many lessons can be reported together.
 	 */
-	private void validateNoConflicts(Schedule schedule) {
-		// Case 1: Course TimeSlot conflict
-		validateScheduleAgainstTimeSlot(schedule);
-
-		// Case 2: Teacher conflict
-		validateTeacherAvailability(schedule);
-
-		// Case 3: Class Room conflict
-		validateClassRoomAvailability(schedule);
+	private ScheduleConflict atLesson(Schedule schedule, ScheduleConflict conflict) {
+		return new ScheduleConflict(conflict.type(), "Lesson of group " + schedule.getGroup().getName() + " on "
+				+ schedule.getDayOfWeek() + " at " + schedule.getStartTime() + ": " + conflict.message());
+	}
 
-		// Case 4: Group already has a Schedule at the same time conflict
-		validateGroupAvailability(schedule);
+	private ScheduleConflict missingTimeSlotConflict(Long courseId) {
+		return new ScheduleConflict(ConflictType.TIME_SLOT,
+				"Course with id:" + courseId + " does not have a TimeSlot configured");
 	}
 
 	/**
-	 * Tries to allocate all lesson credits of a group on the same day.
-	 *
-	 * @param group              the group
-	 * @param semester           the semester
-	 * @param timeSlot           the time slot configuration
-	 * @param dayAvailabilityMap map of available time slots per day
-	 * @param creditsToSchedule  number of credits to schedule
-	 * @param generatedSchedules the result list where valid schedules are added
-	 * @param orderedDays        days of the week ordered by priority
-	 * @return true if successful, false otherwise
+	 * Describes a conflict with another lesson of the semester.
 	 */
-	private boolean tryScheduleInOneDay(Group group, Semester semester, TimeSlot timeSlot,
-			Map<DayOfWeek, List<LocalTime>> dayAvailabilityMap, int creditsToSchedule,
-			List<Schedule> generatedSchedules, List<DayOfWeek> orderedDays) {
-		for (DayOfWeek day : orderedDays) {
-			if (!dayAvailabilityMap.containsKey(day))
-				continue;
-
-			List<LocalTime> availableOnDay = new ArrayList<>(dayAvailabilityMap.get(day));
-			if (availableOnDay.size() < creditsToSchedule)
-				continue;
-
-			List<Schedule> tempSchedules = new ArrayList<>();
-			boolean success = true;
-
-			for (int i = 0; i < creditsToSchedule; i++) {
-				LocalTime slot = availableOnDay.get(i);
-				Schedule schedule = new Schedule();
-				schedule.setGroup(group);
-				schedule.setSemester(semester);
-				schedule.setDayOfWeek(day);
-				schedule.setStartTime(slot);
-				schedule.setEndTime(slot.plusMinutes(timeSlot.getLessonDurationMinutes()));
-
-				try {
-					// Validação em memória
-					validateNoConflicts(schedule);
-					tempSchedules.add(schedule);
-				} catch (InvalidScheduleException e) {
-					success = false;
-					break;
-				}
-			}
-
-			if (success) {
-				// Se todas as validações passaram, salva efetivamente
-				for (Schedule s : tempSchedules) {
-					Schedule saved = scheduleRepository.save(s);
-					generatedSchedules.add(saved);
-					dayAvailabilityMap.get(day).remove(s.getStartTime());
-				}
-				return true;
-			}
-		}
-		return false;
+	private ScheduleConflict conflictOf(ConflictType type) {
+		return switch (type) {
+			case TEACHER -> new ScheduleConflict(type, "Teacher already has a lesson scheduled for this time");
+			case CLASS_ROOM -> new ScheduleConflict(type, "Class Room already occupied at this time");
+			case GROUP -> new ScheduleConflict(type, "Group already has an schedule at this time");
+			case COHORT -> new ScheduleConflict(type, "Cohort already has a lesson at this time");
+			case TIME_SLOT -> new ScheduleConflict(type, "Lesson outside of the course TimeSlot");
+		};
 	}
 
 	/**
-	 * Tries to split the group's credits between two different days.
-	 *
-	 * @param group              the group
-	 * @param semester           the semester
-	 * @param timeSlot           the time slot configuration
-	 * @param dayAvailabilityMap map of available time slots per day
-	 * @param creditsPerDay      how many credits to allocate each day
-	 * @param generatedSchedules result list where valid schedules are added
-	 * @param orderedDays        ordered days of the week
-	 * @return true if successful, false otherwise
+	 * Checks that a group can be scheduled, registering an error otherwise.
 	 */
-	private boolean tryScheduleInTwoDays(Group group, Semester semester, TimeSlot timeSlot,
-			Map<DayOfWeek, List<LocalTime>> dayAvailabilityMap, int creditsPerDay,
-			List<Schedule> generatedSchedules, List<DayOfWeek> orderedDays) {
-		List<DayOfWeek> days = new ArrayList<>(dayAvailabilityMap.keySet());
-		Collections.shuffle(days);
-
-		for (int i = 0; i < orderedDays.size(); i++) {
-			DayOfWeek day1 = orderedDays.get(i);
-
-			if (!dayAvailabilityMap.containsKey(day1))
-				continue;
-
-			for (int j = i + 1; j < orderedDays.size(); j++) {
-				DayOfWeek day2 = orderedDays.get(j);
-
-				if (!dayAvailabilityMap.containsKey(day2))
-					continue;
-
-				if (dayAvailabilityMap.get(day1).size() < creditsPerDay ||
-						dayAvailabilityMap.get(day2).size() < creditsPerDay) {
-					continue;
-				}
-
-				List<Schedule> tempSchedules = new ArrayList<>();
-				boolean success = true;
-
-				for (int k = 0; k < creditsPerDay; k++) {
-					if (k >= dayAvailabilityMap.get(day1).size())
-						break;
-
-					LocalTime slot = dayAvailabilityMap.get(day1).get(k);
-
-					Schedule schedule = new Schedule();
-					schedule.setGroup(group);
-					schedule.setSemester(semester);
-					schedule.setDayOfWeek(day1);
-					schedule.setStartTime(slot);
-					schedule.setEndTime(slot.plusMinutes(timeSlot.getLessonDurationMinutes()));
-
-					try {
-						validateNoConflicts(schedule);
-						tempSchedules.add(schedule);
-					} catch (InvalidScheduleException e) {
-						success = false;
-						break;
-					}
-				}
-
-				if (!success)
-					continue;
-
-				for (int k = 0; k < creditsPerDay; k++) {
-					if (k >= dayAvailabilityMap.get(day2).size())
-						break;
-
-					LocalTime slot = dayAvailabilityMap.get(day2).get(k);
-
-					Schedule schedule = new Schedule();
-					schedule.setGroup(group);
-					schedule.setSemester(semester);
-					schedule.setDayOfWeek(day2);
-					schedule.setStartTime(slot);
-					schedule.setEndTime(slot.plusMinutes(timeSlot.getLessonDurationMinutes()));
-
-					try {
-						validateNoConflicts(schedule);
-						tempSchedules.add(schedule);
-					} catch (InvalidScheduleException e) {
-						success = false;
-						break;
-					}
-				}
-
-				if (success && tempSchedules.size() >= group.getDiscipline().getCredits()) {
-					for (Schedule s : tempSchedules) {
-						Schedule saved = scheduleRepository.save(s);
-						generatedSchedules.add(saved);
-						dayAvailabilityMap.get(s.getDayOfWeek()).remove(s.getStartTime());
-					}
-
-					return true;
-				}
-			}
+	private boolean isSchedulable(Group group, List<ScheduleGenerationError> errors) {
+		if (group.getDiscipline().getTeacher() == null || group.getClassRoom() == null) {
+			errors.add(new ScheduleGenerationError(
+					group.getId(), group.getName(), "Group does not have a teacher or class room assigned"));
+			return false;
 		}
 
-		return false;
+		return true;
 	}
 
 	/**
-	 * Finds the most suitable day to schedule a lesson for a group,
-	 * prioritizing days already used or with more availability.
-	 *
-	 * @param group              the group
-	 * @param dayAvailabilityMap map of available time slots
-	 * @param timeSlot           the time slot configuration
-	 * @param orderedDays        ordered list of days of the week
-	 * @return the best available day
+	 * Sorts the groups with more credits first, and by id as well, so a seed
+	 * always reproduces the same timetable.
 	 */
-	private DayOfWeek findBestDayForGroup(Group group, Map<DayOfWeek, List<LocalTime>> dayAvailabilityMap,
-			TimeSlot timeSlot, List<DayOfWeek> orderedDays) {
-		List<Schedule> groupSchedules = scheduleRepository.findByGroupId(group.getId());
-
-		Set<DayOfWeek> groupDays = groupSchedules.stream()
-				.map(Schedule::getDayOfWeek)
-				.collect(Collectors.toSet());
-
-		for (DayOfWeek day : orderedDays) {
-			if (groupDays.contains(day) && dayAvailabilityMap.containsKey(day)
-					&& !dayAvailabilityMap.get(day).isEmpty()) {
-				return day;
-			}
-		}
+	private void sortByPriority(List<Group> groups) {
+		groups.sort(Comparator.<Group>comparingInt(group -> {
+			Integer credits = group.getDiscipline().getCredits();
+			return credits != null ? -credits : 0;
+		}).thenComparing(Group::getId));
+	}
 
-		for (DayOfWeek day : orderedDays) {
-			if (dayAvailabilityMap.containsKey(day) && !dayAvailabilityMap.get(day).isEmpty()) {
-				return day;
-			}
-		}
+	private int totalCredits(List<Group> groups) {
+		return groups.stream().mapToInt(group -> group.getDiscipline().getCredits()).sum();
+	}
 
-		return orderedDays.isEmpty() ? DayOfWeek.MONDAY : orderedDays.get(0);
+	private List<DayOfWeek> orderDays(TimeSlot timeSlot) {
+		List<DayOfWeek> orderedDays = new ArrayList<>(timeSlot.getDaysOfWeek());
+		orderedDays.sort(Comparator.comparingInt(DayOfWeek::getValue));
+		return orderedDays;
 	}
 
 	/**
-	 * Creates a schedule with a random start time on a given day.
+	 * Finds the generator of an engine.
 	 *
-	 * @param group              the group
-	 * @param semester           the semester
-	 * @param timeSlot           the time slot configuration
-	 * @param dayAvailabilityMap map of available slots
-	 * @param day                the selected day
-	 * @return the new schedule
+	 * @param engine the requested engine, null for the greedy one
+	 * @return the matching generator
 	 */
-	private Schedule createRandomScheduleOnDay(Group group, Semester semester, TimeSlot timeSlot,
-			Map<DayOfWeek, List<LocalTime>> dayAvailabilityMap, DayOfWeek day) {
-		List<LocalTime> availableOnDay = dayAvailabilityMap.get(day);
-
-		if (availableOnDay.isEmpty()) {
-			throw new IllegalStateException("No slots available for " + day);
-		}
-
-		int randomIndex = new Random().nextInt(availableOnDay.size());
-		LocalTime slot = availableOnDay.get(randomIndex);
+	private ScheduleGenerator findGenerator(GenerationEngine engine) {
+		GenerationEngine requested = engine != null ? engine : GenerationEngine.GREEDY;
 
-		Schedule schedule = new Schedule();
-		schedule.setGroup(group);
-		schedule.setSemester(semester);
-		schedule.setDayOfWeek(day);
-		schedule.setStartTime(slot);
-		schedule.setEndTime(slot.plusMinutes(timeSlot.getLessonDurationMinutes()));
-
-		return schedule;
+		return scheduleGenerators.stream()
+				.filter(generator -> generator.engine() == requested)
+				.findFirst()
+				.orElseThrow(() -> new IllegalArgumentException("Generation engine not supported: " + requested));
 	}
 
 	/**
-	 * Calculates all available time slots within a given TimeSlot configuration.
-	 *
-	 * @param timeSlot the configuration of available start/end times and lesson
-	 *                 duration
-	 * @return list of available starting times
+	 * Timetable generated for a course, not yet persisted, along with the
+	 * schedules it replaces.
 	 */
-	private List<LocalTime> calculateAvailableTimeSlots(TimeSlot timeSlot) {
-		List<LocalTime> availableSlots = new ArrayList<>();
-		LocalTime current = timeSlot.getStartTime();
-
-		int duration = timeSlot.getLessonDurationMinutes();
-
-		while (!current.plusMinutes(duration).isAfter(timeSlot.getEndTime())) {
-			availableSlots.add(current);
-			current = current.plusMinutes(duration);
-		}
-
-		return availableSlots;
+	private record CoursePlan(List<Schedule> currentSchedules, GenerationOutcome outcome,
+			List<ScheduleGenerationError> errors, boolean reproducible) {
 	}
 
 	/**
-	 * Deletes all schedules for a specific semester and course.
-	 *
-	 * @param semesterId the ID of the semester
-	 * @param courseId   the ID of the course
+	 * Timetable generated for one course of a semester wide run.
 	 */
-	private void findAndDeleteAllSchedulesBySemesterAndCourse(Long semesterId, Long courseId) {
-		List<Schedule> schedules = scheduleRepository.findSchedulesBySemesterAndCourse(semesterId, courseId);
-		scheduleRepository.deleteAll(schedules);
-		log.info("Deleted {} schedules for semester {} and course {}", schedules.size(), semesterId, courseId);
+	private record CourseGeneration(Long courseId, String courseName, GenerationResult result) {
 	}
-	
+
 }
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,14 +16,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.class_manager.backend.config.security.CachingJwtDecoder;
+import com.class_manager.backend.config.security.PasswordHasher;
+import com.class_manager.backend.config.security.PrincipalCache;
 import com.class_manager.backend.dto.EmailDto;
+import com.class_manager.backend.dto.auth.AuthCacheStatsDto;
 import com.class_manager.backend.dto.auth.CreateUserDto;
 import com.class_manager.backend.dto.auth.LoginRequestDto;
 import com.class_manager.backend.dto.auth.LoginResponseDto;
@@ -52,37 +56,40 @@ import lombok.extern.slf4j.Slf4j;
 public class UserService {
 
 	private final JwtUtils jwtUtils;
-	private final JwtDecoder jwtDecoder;
+	private final CachingJwtDecoder jwtDecoder;
 	private final JwtDecoder noExpiresAtValidatorJwtDecoder;
-	private final BCryptPasswordEncoder passwordEncoder;
+	private final PasswordHasher passwordHasher;
 
 	private final UserRepository userRepository;
 	private final RoleRepository roleRepository;
 	private final PasswordResetTokenRepository passwordResetTokenRepository;
 	private final EmailService emailService;
+	private final PrincipalCache principalCache;
 
 	private final String apiIssuer;
 	private final String frontEndUrl;
 
 	public UserService(
 			JwtUtils jwtUtils,
-			JwtDecoder jwtDecoder,
+			CachingJwtDecoder jwtDecoder,
 			@Qualifier("noExpiresAtValidatorJwtDecoder") JwtDecoder noExpiresAtValidatorJwtDecoder,
-			BCryptPasswordEncoder passwordEncoder,
+			PasswordHasher passwordHasher,
 			UserRepository userRepository,
 			RoleRepository roleRepository,
 			PasswordResetTokenRepository passwordResetTokenRepository,
 			EmailService emailService,
+			PrincipalCache principalCache,
 			@Value("${api.issuer}") String apiIssuer,
 			@Value("${front-end.url}") String frontEndUrl) {
 		this.jwtUtils = jwtUtils;
 		this.jwtDecoder = jwtDecoder;
 		this.noExpiresAtValidatorJwtDecoder = noExpiresAtValidatorJwtDecoder;
 		this.userRepository = userRepository;
-		this.passwordEncoder = passwordEncoder;
+		this.passwordHasher = passwordHasher;
 		this.roleRepository = roleRepository;
 		this.passwordResetTokenRepository = passwordResetTokenRepository;
 		this.emailService = emailService;
+		this.principalCache = principalCache;
 		this.apiIssuer = apiIssuer;
 		this.frontEndUrl = frontEndUrl;
 	}
@@ -105,7 +112,7 @@ public class UserService {
 				roles.add(role.get());
 		}
 
-		var user = new User(dto.email(), passwordEncoder.encode(dto.password()), dto.name(),
+		var user = new User(dto.email(), passwordHasher.encode(dto.password()), dto.name(),
 				dto.surname(), roles);
 
 		userRepository.save(user);
@@ -141,14 +148,22 @@ public class UserService {
 				.map(User::getId);
 	}
 
+	/**
+	 * Checks the credentials and issues the tokens. A password hashed with a
+	 * BCrypt cost other than the configured one is hashed again, so changing
+	 * the cost does not require resetting the passwords.
+	 *
+	 * @throws RejectedExecutionException if too many passwords are being checked
+	 */
 	public LoginResponseDto login(LoginRequestDto loginRequest) {
 		var user = userRepository.findByEmail(loginRequest.email());
 
-		if (user.isEmpty() || !user.get().isPasswordCorrect(loginRequest.password(), passwordEncoder)) {
+		if (user.isEmpty() || !passwordHasher.matches(loginRequest.password(), user.get().getPassword())) {
 			throw new BadCredentialsException("Email ou senha inválidos.");
 		}
 
 		User usuario = user.get();
+		rehashPasswordIfNeeded(usuario, loginRequest.password());
 		String userId = usuario.getId().toString();
 
 		var accessToken = jwtUtils.buildJwtAccessToken(apiIssuer, userId, Instant.now().plus(1, ChronoUnit.HOURS),
@@ -193,7 +208,7 @@ public class UserService {
 
 		User user = passwordResetToken.getUser();
 
-		user.setPassword(passwordEncoder.encode(dto.newPassword()));
+		user.setPassword(passwordHasher.encode(dto.newPassword()));
 		userRepository.save(user);
 
 		passwordResetTokenRepository.delete(passwordResetToken);
@@ -244,6 +259,7 @@ public class UserService {
 		try {
 			Patcher.patch(existingUser, partialUser);
 			userRepository.save(existingUser);
+			invalidateCachedUser(userId);
 		} catch (Exception e) {
 			throw new RuntimeException("Failed to patch User", e);
 		}
@@ -255,6 +271,30 @@ public class UserService {
 
 		user.setActive(false);
 		userRepository.save(user);
+		invalidateCachedUser(userId);
+	}
+
+	public AuthCacheStatsDto findAuthCacheStats() {
+		return new AuthCacheStatsDto(jwtDecoder.stats(), principalCache.stats());
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private void invalidateCachedUser(UUID userId) {
+		principalCache.invalidate(userId);
+		jwtDecoder.invalidateSubject(userId.toString());
+	}
+
+	private void rehashPasswordIfNeeded(User user, String rawPassword) {
+		if (!passwordHasher.needsRehash(user.getPassword()))
+			return;
+
+		try {
+			user.setPassword(passwordHasher.encode(rawPassword));
+			userRepository.save(user);
+		} catch (RejectedExecutionException e) {
+			log.debug("Password rehash of user {} postponed, too many logins in progress", user.getId());
+		}
 	}
 
 }
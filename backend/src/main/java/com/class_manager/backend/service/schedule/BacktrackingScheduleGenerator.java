@@ -0,0 +1,395 @@
+package com.class_manager.backend.service.schedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.class_manager.backend.dto.model.schedule.ScheduleGenerationError;
+import com.class_manager.backend.enums.GenerationEngine;
+import com.class_manager.backend.model.Group;
+import com.class_manager.backend.model.Schedule;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Generation engine that models the timetable as a constraint satisfaction
+ * problem and solves it with backtracking.
+ *
+ * Every credit of a group is a variable whose domain is the set of (day, slot)
+ * pairs of the course grid that are free in the semester occupancy. Lessons
+ * sharing a group, teacher, class room or cohort (groups of the same semester
+ * of the course) cannot take the same slot. The search always branches on the
+ * variable with the smallest remaining domain and, after each assignment,
+ * removes the chosen slot from the domains of the related variables (forward
+ * checking), backtracking as soon as one of them becomes empty.
+ *
+ * The search is bounded by a time budget. When it runs out, when the run is
+ * cancelled or when no complete timetable exists, the assignment that placed
+ * the most lessons is returned. Where the search stops depends on the clock,
+ * so a seed does not reproduce a partial result.
+ */
+@Slf4j
+@Component
+public class BacktrackingScheduleGenerator implements ScheduleGenerator {
+
+	private final long defaultTimeBudgetMillis;
+
+	public BacktrackingScheduleGenerator(
+			@Value("${schedule.generation.time-budget-ms}") long defaultTimeBudgetMillis) {
+		this.defaultTimeBudgetMillis = defaultTimeBudgetMillis;
+	}
+
+	@Override
+	public GenerationEngine engine() {
+		return GenerationEngine.BACKTRACKING;
+	}
+
+	@Override
+	public boolean isReproducible() {
+		return false;
+	}
+
+	@Override
+	public GenerationResult generate(GenerationContext context) {
+		long budget = context.timeBudgetMillis() != null ? context.timeBudgetMillis() : defaultTimeBudgetMillis;
+		Search search = new Search(context, System.nanoTime() + budget * 1_000_000L);
+
+		boolean complete = search.run();
+		log.info("Backtracking search finished: complete={}, placed {}/{} lessons, {} nodes", complete,
+				search.bestAssigned, search.variableCount, search.nodes);
+
+		return search.toResult();
+	}
+
+	/**
+	 * State of a single search, the variables are indexed from 0 to
+	 * variableCount - 1 and the values from 0 to days * slots - 1.
+	 */
+	private static final class Search {
+
+		private final GenerationContext context;
+		private final long deadline;
+
+		private final int slotsPerDay;
+		private final int variableCount;
+		private final Group[] groupOf;
+		private final int[] groupIndexOf;
+		private final int[] creditIndexOf;
+		private final int[][] neighbors;
+		private final BitSet[] domains;
+		private final int[] assignment;
+
+		// Undo log of the pruned (variable, value) pairs
+		private int[] trailVariables;
+		private int[] trailValues;
+		private int trailSize;
+
+		private int assigned;
+		private int bestAssigned = -1;
+		private int[] bestAssignment;
+		private long nodes;
+		private boolean expired;
+
+		Search(GenerationContext context, long deadline) {
+			this.context = context;
+			this.deadline = deadline;
+			this.slotsPerDay = context.slots().size();
+
+			List<Group> groups = context.groups();
+			int total = groups.stream().mapToInt(context::creditsOf).sum();
+
+			this.variableCount = total;
+			this.groupOf = new Group[total];
+			this.groupIndexOf = new int[total];
+			this.creditIndexOf = new int[total];
+			this.domains = new BitSet[total];
+			this.assignment = new int[total];
+			this.trailVariables = new int[64];
+			this.trailValues = new int[64];
+			Arrays.fill(assignment, -1);
+
+			int variable = 0;
+			for (int g = 0; g < groups.size(); g++) {
+				Group group = groups.get(g);
+				BitSet domain = initialDomain(group);
+
+				for (int credit = 0; credit < context.creditsOf(group); credit++) {
+					groupOf[variable] = group;
+					groupIndexOf[variable] = g;
+					creditIndexOf[variable] = credit;
+					domains[variable] = (BitSet) domain.clone();
+					variable++;
+				}
+			}
+
+			this.neighbors = buildNeighbors();
+		}
+
+		/**
+		 * Runs the search, returns true if every lesson was placed.
+		 */
+		boolean run() {
+			// Lessons without any free slot can never be placed, they stay out of the search
+			for (int v = 0; v < variableCount; v++) {
+				if (domains[v].isEmpty())
+					assignment[v] = -2;
+			}
+
+			saveBest();
+			return search();
+		}
+
+		GenerationResult toResult() {
+			List<Schedule> schedules = new ArrayList<>();
+			int[] placedPerGroup = new int[context.groups().size()];
+
+			for (int v = 0; v < variableCount; v++) {
+				int value = bestAssignment[v];
+
+				if (value < 0)
+					continue;
+
+				Schedule schedule = context.newSchedule(groupOf[v], dayOf(value), slotOf(value));
+				context.occupancy().occupy(schedule);
+				schedules.add(schedule);
+				placedPerGroup[groupIndexOf[v]]++;
+			}
+
+			List<ScheduleGenerationError> errors = new ArrayList<>();
+
+			for (int g = 0; g < context.groups().size(); g++) {
+				Group group = context.groups().get(g);
+				int credits = context.creditsOf(group);
+
+				if (placedPerGroup[g] < credits) {
+					errors.add(new ScheduleGenerationError(group.getId(), group.getName(),
+							"Scheduled only " + placedPerGroup[g] + "/" + credits + " credits"));
+				}
+			}
+
+			return new GenerationResult(schedules, errors);
+		}
+
+		private boolean search() {
+			nodes++;
+
+			if (System.nanoTime() - deadline >= 0 || context.monitor().isCancelled()) {
+				expired = true;
+				return false;
+			}
+
+			int variable = selectVariable();
+
+			if (variable < 0)
+				return true;
+
+			for (int value : orderValues(variable)) {
+				int mark = trailSize;
+				assignment[variable] = value;
+
+				// A value that empties another domain still places this lesson, so it counts for the partial result
+				boolean consistent = propagate(variable, value);
+				assigned++;
+
+				if (assigned > bestAssigned)
+					saveBest();
+
+				if (consistent && search())
+					return true;
+
+				assigned--;
+
+				undo(mark);
+				assignment[variable] = -1;
+
+				if (expired)
+					return false;
+			}
+
+			return false;
+		}
+
+		/**
+		 * Picks the unassigned variable with the smallest domain, breaking ties
+		 * by the number of related variables.
+		 */
+		private int selectVariable() {
+			int selected = -1;
+			int selectedSize = Integer.MAX_VALUE;
+
+			for (int v = 0; v < variableCount; v++) {
+				if (assignment[v] != -1)
+					continue;
+
+				int size = domains[v].cardinality();
+
+				if (size < selectedSize || (size == selectedSize && neighbors[v].length > neighbors[selected].length)) {
+					selected = v;
+					selectedSize = size;
+				}
+			}
+
+			return selected;
+		}
+
+		/**
+		 * Orders the values of a variable, trying first the days where the group
+		 * already has lessons and then the other days in random order.
+		 */
+		private List<Integer> orderValues(int variable) {
+			List<Integer> usedDays = new ArrayList<>();
+			List<Integer> otherDays = new ArrayList<>();
+
+			for (int v = 0; v < variableCount; v++) {
+				if (groupIndexOf[v] == groupIndexOf[variable] && assignment[v] >= 0) {
+					int day = assignment[v] / slotsPerDay;
+
+					if (!usedDays.contains(day))
+						usedDays.add(day);
+				}
+			}
+
+			for (int day = 0; day < context.days().size(); day++) {
+				if (!usedDays.contains(day))
+					otherDays.add(day);
+			}
+
+			Collections.shuffle(otherDays, context.random());
+			usedDays.addAll(otherDays);
+
+			List<Integer> values = new ArrayList<>();
+			BitSet domain = domains[variable];
+
+			for (int day : usedDays) {
+				int from = day * slotsPerDay;
+
+				for (int value = domain.nextSetBit(from); value >= 0 && value < from + slotsPerDay;
+						value = domain.nextSetBit(value + 1)) {
+					values.add(value);
+				}
+			}
+
+			return values;
+		}
+
+		/**
+		 * Removes the assigned value from the domains of the related variables.
+		 * Credits of the same group are interchangeable, so they are also kept in
+		 * increasing order of value to avoid exploring permutations of the same
+		 * timetable.
+		 *
+		 * @return false if any related variable was left without values
+		 */
+		private boolean propagate(int variable, int value) {
+			for (int neighbor : neighbors[variable]) {
+				if (assignment[neighbor] != -1)
+					continue;
+
+				BitSet domain = domains[neighbor];
+
+				if (groupIndexOf[neighbor] == groupIndexOf[variable]) {
+					if (creditIndexOf[neighbor] > creditIndexOf[variable]) {
+						prune(neighbor, domain, 0, value + 1);
+					} else {
+						prune(neighbor, domain, value, domain.length());
+					}
+				} else if (domain.get(value)) {
+					prune(neighbor, domain, value, value + 1);
+				}
+
+				if (domain.isEmpty())
+					return false;
+			}
+
+			return true;
+		}
+
+		private void prune(int variable, BitSet domain, int from, int to) {
+			for (int value = domain.nextSetBit(from); value >= 0 && value < to; value = domain.nextSetBit(value + 1)) {
+				domain.clear(value);
+				push(variable, value);
+			}
+		}
+
+		private void push(int variable, int value) {
+			if (trailSize == trailVariables.length) {
+				trailVariables = Arrays.copyOf(trailVariables, trailSize * 2);
+				trailValues = Arrays.copyOf(trailValues, trailSize * 2);
+			}
+
+			trailVariables[trailSize] = variable;
+			trailValues[trailSize] = value;
+			trailSize++;
+		}
+
+		private void undo(int mark) {
+			while (trailSize > mark) {
+				trailSize--;
+				domains[trailVariables[trailSize]].set(trailValues[trailSize]);
+			}
+		}
+
+		private void saveBest() {
+			bestAssigned = assigned;
+			bestAssignment = assignment.clone();
+		}
+
+		private BitSet initialDomain(Group group) {
+			BitSet domain = new BitSet(context.days().size() * slotsPerDay);
+
+			for (int value = 0; value < context.days().size() * slotsPerDay; value++) {
+				if (context.occupancy().isAvailable(context.newSchedule(group, dayOf(value), slotOf(value))))
+					domain.set(value);
+			}
+
+			return domain;
+		}
+
+		private int[][] buildNeighbors() {
+			int[][] result = new int[variableCount][];
+
+			for (int v = 0; v < variableCount; v++) {
+				List<Integer> related = new ArrayList<>();
+
+				for (int u = 0; u < variableCount; u++) {
+					if (u != v && areRelated(groupOf[u], groupOf[v]))
+						related.add(u);
+				}
+
+				result[v] = related.stream().mapToInt(Integer::intValue).toArray();
+			}
+
+			return result;
+		}
+
+		private static boolean areRelated(Group a, Group b) {
+			if (a == b)
+				return true;
+
+			boolean sameTeacher = a.getDiscipline().getTeacher().getId()
+					.equals(b.getDiscipline().getTeacher().getId());
+			boolean sameClassRoom = a.getClassRoom().getId().equals(b.getClassRoom().getId());
+			Cohort cohort = Cohort.of(a);
+			boolean sameCohort = cohort != null && cohort.equals(Cohort.of(b));
+
+			return sameTeacher || sameClassRoom || sameCohort;
+		}
+
+		private DayOfWeek dayOf(int value) {
+			return context.days().get(value / slotsPerDay);
+		}
+
+		private LocalTime slotOf(int value) {
+			return context.slots().get(value % slotsPerDay);
+		}
+
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.class_manager.backend.service.schedule;
+
+import com.class_manager.backend.model.Discipline;
+import com.class_manager.backend.model.Group;
+
+/**
+ * The groups of the same semester of a course, attended by the same students,
+ * so their lessons may not overlap.
+ */
+public record Cohort(
+		Long courseId,
+		Integer semesterOfCourse) {
+
+	/**
+	 * @return the cohort, or null if the semester of the course is not known
+	 */
+	public static Cohort of(Long courseId, Integer semesterOfCourse) {
+		return courseId != null && semesterOfCourse != null ? new Cohort(courseId, semesterOfCourse) : null;
+	}
+
+	/**
+	 * @return the cohort of the group, or null if it has none
+	 */
+	public static Cohort of(Group group) {
+		Discipline discipline = group.getDiscipline();
+
+		if (discipline == null || discipline.getCourse() == null)
+			return null;
+
+		return of(discipline.getCourse().getId(), group.getSemesterOfCourse());
+	}
+
+	/**
+	 * Identifies the cohort across instances of the application, e.g. in a
+	 * lock key, as the course ID and the semester of the course separated by a
+	 * slash.
+	 */
+	public String key() {
+		return courseId + "/" + semesterOfCourse;
+	}
+
+}
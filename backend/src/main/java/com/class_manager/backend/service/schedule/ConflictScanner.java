@@ -0,0 +1,105 @@
+package com.class_manager.backend.service.schedule;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+import com.class_manager.backend.dto.model.schedule.LessonDto;
+import com.class_manager.backend.dto.model.schedule.LessonOverlapDto;
+import com.class_manager.backend.dto.model.schedule.ResourceConflictDto;
+import com.class_manager.backend.dto.model.schedule.ScannedLesson;
+import com.class_manager.backend.enums.ConflictType;
+import com.class_manager.backend.model.Schedule;
+
+/**
+ * Finds every pair of overlapping lessons of the same teacher, class room,
+ * group or cohort (groups of the same semester of a course) in a set of
+ * lessons.
+ *
+ * The lessons of each resource are sorted by start and swept once, keeping
+ * the lessons still running in a heap ordered by end: each lesson overlaps
+ * exactly the ones left in the heap when it starts. A scan takes
+ * O(n log n + k) for n lessons and k overlaps.
+ */
+public final class ConflictScanner {
+
+	private ConflictScanner() {
+	}
+
+	/**
+	 * @param lessons the lessons to scan
+	 * @return the overlaps, grouped by resource
+	 */
+	public static List<ResourceConflictDto> scan(List<ScannedLesson> lessons) {
+		List<ResourceConflictDto> conflicts = new ArrayList<>();
+
+		sweep(ConflictType.TEACHER, lessons, ScannedLesson::teacherId, conflicts);
+		sweep(ConflictType.CLASS_ROOM, lessons, ScannedLesson::classRoomId, conflicts);
+		sweep(ConflictType.GROUP, lessons, ScannedLesson::groupId, conflicts);
+		sweep(ConflictType.COHORT, lessons, lesson -> {
+			Cohort cohort = Cohort.of(lesson.courseId(), lesson.semesterOfCourse());
+			return cohort != null ? cohort.key() : null;
+		}, conflicts);
+
+		return conflicts;
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private static void sweep(ConflictType type, List<ScannedLesson> lessons,
+			Function<ScannedLesson, Object> resourceOf, List<ResourceConflictDto> conflicts) {
+		Map<Object, List<ScannedLesson>> lessonsByResource = new LinkedHashMap<>();
+
+		for (ScannedLesson lesson : lessons) {
+			Object resource = resourceOf.apply(lesson);
+
+			if (resource != null)
+				lessonsByResource.computeIfAbsent(resource, key -> new ArrayList<>()).add(lesson);
+		}
+
+		for (Map.Entry<Object, List<ScannedLesson>> entry : lessonsByResource.entrySet()) {
+			List<ScannedLesson> sorted = entry.getValue();
+			sorted.sort(Comparator.comparingInt(ConflictScanner::startOf));
+
+			PriorityQueue<ScannedLesson> running = new PriorityQueue<>(Comparator.comparingInt(ConflictScanner::endOf));
+			List<LessonOverlapDto> overlaps = new ArrayList<>();
+
+			for (ScannedLesson lesson : sorted) {
+				while (!running.isEmpty() && endOf(running.peek()) <= startOf(lesson)) {
+					running.poll();
+				}
+
+				for (ScannedLesson other : running) {
+					// Lessons of the same group are already reported as a group conflict
+					if (type == ConflictType.COHORT && other.groupId().equals(lesson.groupId()))
+						continue;
+
+					overlaps.add(new LessonOverlapDto(toLesson(other), toLesson(lesson)));
+				}
+
+				running.add(lesson);
+			}
+
+			if (!overlaps.isEmpty())
+				conflicts.add(new ResourceConflictDto(type, entry.getKey().toString(), overlaps));
+		}
+	}
+
+	private static int startOf(ScannedLesson lesson) {
+		return Schedule.minuteOfWeek(lesson.dayOfWeek(), lesson.startTime());
+	}
+
+	private static int endOf(ScannedLesson lesson) {
+		return Schedule.endMinuteOfWeek(lesson.dayOfWeek(), lesson.startTime(), lesson.endTime());
+	}
+
+	private static LessonDto toLesson(ScannedLesson lesson) {
+		return new LessonDto(lesson.scheduleId(), lesson.groupId(), lesson.dayOfWeek(), lesson.startTime(),
+				lesson.endTime());
+	}
+
+}
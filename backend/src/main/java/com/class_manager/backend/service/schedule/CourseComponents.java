@@ -0,0 +1,83 @@
+package com.class_manager.backend.service.schedule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.class_manager.backend.model.Group;
+
+/**
+ * Splits the courses of a semester into independent components: two courses
+ * end up in the same component when any of their groups share a teacher or a
+ * class room, directly or through other courses. Courses of different
+ * components can be generated in parallel without ever conflicting.
+ */
+public final class CourseComponents {
+
+	private CourseComponents() {
+	}
+
+	/**
+	 * @param groupsByCourse the groups to schedule of each course, iterated in
+	 *                       the order the components should follow
+	 * @return the course IDs of each component, in iteration order
+	 */
+	public static List<List<Long>> split(Map<Long, List<Group>> groupsByCourse) {
+		Map<Long, Long> parent = new HashMap<>();
+		Map<UUID, Long> teacherOwner = new HashMap<>();
+		Map<Long, Long> classRoomOwner = new HashMap<>();
+
+		for (Map.Entry<Long, List<Group>> entry : groupsByCourse.entrySet()) {
+			Long courseId = entry.getKey();
+			parent.put(courseId, courseId);
+
+			for (Group group : entry.getValue()) {
+				Long teacherCourse = teacherOwner.putIfAbsent(group.getDiscipline().getTeacher().getId(), courseId);
+				Long classRoomCourse = classRoomOwner.putIfAbsent(group.getClassRoom().getId(), courseId);
+
+				if (teacherCourse != null)
+					union(parent, teacherCourse, courseId);
+
+				if (classRoomCourse != null)
+					union(parent, classRoomCourse, courseId);
+			}
+		}
+
+		Map<Long, List<Long>> components = new LinkedHashMap<>();
+
+		for (Long courseId : groupsByCourse.keySet()) {
+			components.computeIfAbsent(find(parent, courseId), root -> new ArrayList<>()).add(courseId);
+		}
+
+		return new ArrayList<>(components.values());
+	}
+
+	private static Long find(Map<Long, Long> parent, Long courseId) {
+		Long root = courseId;
+
+		while (!parent.get(root).equals(root)) {
+			root = parent.get(root);
+		}
+
+		// Path compression
+		while (!parent.get(courseId).equals(root)) {
+			Long next = parent.get(courseId);
+			parent.put(courseId, root);
+			courseId = next;
+		}
+
+		return root;
+	}
+
+	private static void union(Map<Long, Long> parent, Long a, Long b) {
+		Long rootA = find(parent, a);
+		Long rootB = find(parent, b);
+
+		if (!rootA.equals(rootB))
+			parent.put(rootB, rootA);
+	}
+
+}
@@ -0,0 +1,79 @@
+package com.class_manager.backend.service.schedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.class_manager.backend.model.Group;
+import com.class_manager.backend.model.Schedule;
+import com.class_manager.backend.model.Semester;
+import com.class_manager.backend.model.TimeSlot;
+
+/**
+ * Everything a {@link ScheduleGenerator} needs to build the timetable of a
+ * course, already loaded in memory.
+ *
+ * @param semester         the semester being scheduled
+ * @param timeSlot         the TimeSlot configuration of the course
+ * @param groups           the groups to schedule, ordered by priority
+ * @param days             the allowed days of the week, in order
+ * @param slots            the lesson start times available on each day
+ * @param occupancy        the occupancy of the semester, updated with the
+ *                         generated schedules
+ * @param random           source of randomness of the generation
+ * @param timeBudgetMillis maximum time the generation may take, or null for
+ *                         the generator default
+ * @param monitor          progress and cancellation of the run
+ * @param creditsToPlace   number of lessons to place for each group id, or
+ *                         null to place all the credits of every group
+ */
+public record GenerationContext(
+		Semester semester,
+		TimeSlot timeSlot,
+		List<Group> groups,
+		List<DayOfWeek> days,
+		List<LocalTime> slots,
+		ScheduleOccupancyIndex occupancy,
+		Random random,
+		Long timeBudgetMillis,
+		GenerationMonitor monitor,
+		Map<Long, Integer> creditsToPlace) {
+
+	/**
+	 * Creates the context of an independent attempt, with its own randomness and
+	 * occupancy.
+	 */
+	public GenerationContext withAttempt(Random random, ScheduleOccupancyIndex occupancy) {
+		return new GenerationContext(semester, timeSlot, groups, days, slots, occupancy, random, timeBudgetMillis,
+				monitor, creditsToPlace);
+	}
+
+	/**
+	 * Number of lessons to place for a group, all of its credits unless the
+	 * context says otherwise.
+	 */
+	public int creditsOf(Group group) {
+		Integer credits = creditsToPlace != null ? creditsToPlace.get(group.getId()) : null;
+		return credits != null ? credits : group.getDiscipline().getCredits();
+	}
+
+	public int lessonDurationMinutes() {
+		return timeSlot.getLessonDurationMinutes();
+	}
+
+	/**
+	 * Creates a not yet persisted schedule for a group.
+	 */
+	public Schedule newSchedule(Group group, DayOfWeek day, LocalTime startTime) {
+		Schedule schedule = new Schedule();
+		schedule.setGroup(group);
+		schedule.setSemester(semester);
+		schedule.setDayOfWeek(day);
+		schedule.setStartTime(startTime);
+		schedule.setEndTime(startTime.plusMinutes(lessonDurationMinutes()));
+		return schedule;
+	}
+
+}
@@ -0,0 +1,99 @@
+package com.class_manager.backend.service.schedule;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Future;
+
+import com.class_manager.backend.dto.model.schedule.GenerateSchedulesDto;
+import com.class_manager.backend.dto.model.schedule.GenerateSchedulesResponseDto;
+import com.class_manager.backend.enums.GenerationJobStatus;
+
+import lombok.Getter;
+
+/**
+ * A generation request running in background. The status only moves forward,
+ * from QUEUED to RUNNING and then to one of the final statuses.
+ */
+@Getter
+public class GenerationJob {
+
+	private final UUID id = UUID.randomUUID();
+	private final GenerateSchedulesDto request;
+	private final GenerationMonitor monitor = new GenerationMonitor();
+	private final LocalDateTime submittedAt = LocalDateTime.now();
+
+	private volatile GenerationJobStatus status = GenerationJobStatus.QUEUED;
+	private volatile GenerateSchedulesResponseDto result;
+	private volatile String error;
+	private volatile LocalDateTime finishedAt;
+	private volatile Future<?> future;
+
+	public GenerationJob(GenerateSchedulesDto request) {
+		this.request = request;
+	}
+
+	public void setFuture(Future<?> future) {
+		this.future = future;
+	}
+
+	/**
+	 * Marks the job as running, unless it was cancelled while queued.
+	 *
+	 * @return true if the job should run
+	 */
+	public synchronized boolean start() {
+		if (status != GenerationJobStatus.QUEUED)
+			return false;
+
+		status = GenerationJobStatus.RUNNING;
+		return true;
+	}
+
+	/**
+	 * Marks the job as completed.
+	 *
+	 * @param result the response of the generation, holding the schedules it
+	 *               saved
+	 */
+	public synchronized void complete(GenerateSchedulesResponseDto result) {
+		this.result = result;
+		finish(GenerationJobStatus.COMPLETED);
+	}
+
+	public synchronized void fail(String error) {
+		this.error = error;
+		finish(GenerationJobStatus.FAILED);
+	}
+
+	/**
+	 * Requests the cancellation of the job. A queued job is cancelled right
+	 * away, a running one stops at the next checkpoint of the generation.
+	 */
+	public synchronized void cancel() {
+		monitor.cancel();
+
+		if (status == GenerationJobStatus.QUEUED) {
+			if (future != null)
+				future.cancel(false);
+
+			finish(GenerationJobStatus.CANCELLED);
+		}
+	}
+
+	public synchronized void cancelled() {
+		finish(GenerationJobStatus.CANCELLED);
+	}
+
+	public boolean isFinished() {
+		return finishedAt != null;
+	}
+
+	private void finish(GenerationJobStatus status) {
+		if (isFinished())
+			return;
+
+		this.status = status;
+		this.finishedAt = LocalDateTime.now();
+	}
+
+}
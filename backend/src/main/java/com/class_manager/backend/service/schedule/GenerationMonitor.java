@@ -0,0 +1,67 @@
+package com.class_manager.backend.service.schedule;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.class_manager.backend.enums.GenerationStage;
+
+/**
+ * Progress and cancellation flag of a generation run, shared between the
+ * thread running it and whoever follows it.
+ *
+ * The generators poll {@link #isCancelled()} at their natural checkpoints, so
+ * a cancelled run stops within one step and nothing is written afterwards.
+ */
+public class GenerationMonitor {
+
+	private final AtomicInteger completedAttempts = new AtomicInteger();
+	private final AtomicInteger totalAttempts = new AtomicInteger();
+	private volatile GenerationStage stage = GenerationStage.QUEUED;
+	private volatile boolean cancelled;
+
+	public void cancel() {
+		this.cancelled = true;
+	}
+
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * @throws CancellationException if the run was cancelled
+	 */
+	public void checkCancelled() {
+		if (cancelled) {
+			throw new CancellationException("Schedule generation cancelled");
+		}
+	}
+
+	public void enterStage(GenerationStage stage) {
+		this.stage = stage;
+	}
+
+	public GenerationStage getStage() {
+		return stage;
+	}
+
+	/**
+	 * Adds attempts to the run, a run generating several courses adds the
+	 * attempts of each one.
+	 */
+	public void attemptsStarted(int attempts) {
+		totalAttempts.addAndGet(attempts);
+	}
+
+	public void attemptCompleted() {
+		completedAttempts.incrementAndGet();
+	}
+
+	public int getCompletedAttempts() {
+		return completedAttempts.get();
+	}
+
+	public int getTotalAttempts() {
+		return totalAttempts.get();
+	}
+
+}
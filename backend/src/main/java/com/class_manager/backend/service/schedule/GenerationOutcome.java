@@ -0,0 +1,17 @@
+package com.class_manager.backend.service.schedule;
+
+/**
+ * Winning attempt of a generation run.
+ *
+ * @param result  the generated timetable
+ * @param seed    the seed that reproduces this attempt
+ * @param score   the quality of the timetable
+ * @param context the context of the attempt, whose occupancy includes the
+ *                generated schedules
+ */
+public record GenerationOutcome(
+		GenerationResult result,
+		long seed,
+		GenerationScore score,
+		GenerationContext context) {
+}
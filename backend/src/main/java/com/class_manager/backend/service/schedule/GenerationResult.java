@@ -0,0 +1,14 @@
+package com.class_manager.backend.service.schedule;
+
+import java.util.List;
+
+import com.class_manager.backend.dto.model.schedule.ScheduleGenerationError;
+import com.class_manager.backend.model.Schedule;
+
+/**
+ * Outcome of a generation run, with the schedules still not persisted.
+ */
+public record GenerationResult(
+		List<Schedule> schedules,
+		List<ScheduleGenerationError> errors) {
+}
@@ -0,0 +1,72 @@
+package com.class_manager.backend.service.schedule;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.class_manager.backend.model.Schedule;
+
+/**
+ * Quality of a generated timetable, used to pick the best of several
+ * generation attempts.
+ *
+ * @param placedCredits      number of lessons placed
+ * @param teacherIdleMinutes minutes teachers stay idle between two lessons of
+ *                           the same day
+ * @param daysUsed           sum of the distinct days used by each group
+ */
+public record GenerationScore(
+		int placedCredits,
+		int teacherIdleMinutes,
+		int daysUsed) {
+
+	/**
+	 * Orders scores from the best to the worst: more credits placed first, then
+	 * fewer teacher gaps, then fewer days used.
+	 */
+	public static final Comparator<GenerationScore> BEST_FIRST = Comparator
+			.comparingInt(GenerationScore::placedCredits).reversed()
+			.thenComparingInt(GenerationScore::teacherIdleMinutes)
+			.thenComparingInt(GenerationScore::daysUsed);
+
+	public static GenerationScore of(List<Schedule> schedules) {
+		Map<UUID, Map<DayOfWeek, List<Schedule>>> lessonsByTeacher = new HashMap<>();
+		Map<Long, Set<DayOfWeek>> daysByGroup = new HashMap<>();
+
+		for (Schedule schedule : schedules) {
+			UUID teacherId = schedule.getGroup().getDiscipline().getTeacher().getId();
+
+			lessonsByTeacher.computeIfAbsent(teacherId, id -> new HashMap<>())
+					.computeIfAbsent(schedule.getDayOfWeek(), day -> new ArrayList<>())
+					.add(schedule);
+			daysByGroup.computeIfAbsent(schedule.getGroup().getId(), id -> EnumSet.noneOf(DayOfWeek.class))
+					.add(schedule.getDayOfWeek());
+		}
+
+		int idleMinutes = 0;
+
+		for (Map<DayOfWeek, List<Schedule>> lessonsByDay : lessonsByTeacher.values()) {
+			for (List<Schedule> lessons : lessonsByDay.values()) {
+				lessons.sort(Comparator.comparing(Schedule::getStartTime));
+
+				for (int i = 1; i < lessons.size(); i++) {
+					long gap = Duration.between(lessons.get(i - 1).getEndTime(), lessons.get(i).getStartTime())
+							.toMinutes();
+					idleMinutes += (int) Math.max(gap, 0);
+				}
+			}
+		}
+
+		int daysUsed = daysByGroup.values().stream().mapToInt(Set::size).sum();
+
+		return new GenerationScore(schedules.size(), idleMinutes, daysUsed);
+	}
+
+}
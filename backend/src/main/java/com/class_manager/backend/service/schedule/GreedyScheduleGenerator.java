@@ -0,0 +1,281 @@
+package com.class_manager.backend.service.schedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.class_manager.backend.dto.model.schedule.ScheduleGenerationError;
+import com.class_manager.backend.enums.GenerationEngine;
+import com.class_manager.backend.model.Group;
+import com.class_manager.backend.model.Schedule;
+
+/**
+ * Default generation engine, places the groups one by one using 3 strategies
+ * in order:
+ * <ul>
+ * <li>1. Try to allocate all credits in a single day</li>
+ * <li>2. Try to split credits into two different days</li>
+ * <li>3. Distribute credits across multiple days</li>
+ * </ul>
+ */
+@Component
+public class GreedyScheduleGenerator implements ScheduleGenerator {
+
+	@Override
+	public GenerationEngine engine() {
+		return GenerationEngine.GREEDY;
+	}
+
+	@Override
+	public GenerationResult generate(GenerationContext context) {
+		List<Schedule> generatedSchedules = new ArrayList<>();
+		List<ScheduleGenerationError> errors = new ArrayList<>();
+
+		Map<DayOfWeek, List<LocalTime>> dayAvailabilityMap = new HashMap<>();
+		List<DayOfWeek> orderedDays = context.days();
+
+		for (DayOfWeek day : orderedDays) {
+			dayAvailabilityMap.put(day, new ArrayList<>(context.slots()));
+		}
+
+		for (Group group : context.groups()) {
+			context.monitor().checkCancelled();
+
+			int creditsToSchedule = context.creditsOf(group);
+			int scheduled = 0;
+			int attempts = 0;
+			final int MAX_ATTEMPTS = creditsToSchedule * 100;
+
+			// Strategy 1: Try to allocate all credits on the same day
+			boolean strategy1Success = tryScheduleInOneDay(group, context, dayAvailabilityMap, creditsToSchedule,
+					generatedSchedules, orderedDays);
+
+			if (strategy1Success) {
+				continue;
+			}
+
+			// Strategy 2: Try to allocate credits across two days (half each)
+			if (creditsToSchedule >= 2) {
+				int creditsPerDay = (int) Math.ceil(creditsToSchedule / 2.0);
+				boolean strategy2Success = tryScheduleInTwoDays(group, context, dayAvailabilityMap, creditsPerDay,
+						generatedSchedules, orderedDays);
+
+				if (strategy2Success) {
+					continue;
+				}
+			}
+
+			// Strategy 3: Allocate credits across multiple days (1 credit per day)
+			Set<DayOfWeek> scheduledDays = EnumSet.noneOf(DayOfWeek.class);
+
+			while (scheduled < creditsToSchedule && attempts < MAX_ATTEMPTS) {
+				attempts++;
+				DayOfWeek day = findBestDayForGroup(scheduledDays, dayAvailabilityMap, orderedDays);
+
+				Schedule newSchedule = createRandomScheduleOnDay(group, context, dayAvailabilityMap, day);
+
+				if (!context.occupancy().isAvailable(newSchedule)) {
+					continue;
+				}
+
+				generatedSchedules.add(newSchedule);
+				context.occupancy().occupy(newSchedule);
+				scheduledDays.add(day);
+				scheduled++;
+
+				dayAvailabilityMap.get(day).remove(newSchedule.getStartTime());
+			}
+
+			if (scheduled < creditsToSchedule) {
+				errors.add(new ScheduleGenerationError(
+						group.getId(), group.getName(),
+						"Scheduled only " + scheduled + "/" + creditsToSchedule + " credits"));
+			}
+		}
+
+		return new GenerationResult(generatedSchedules, errors);
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	/**
+	 * Tries to allocate all lesson credits of a group on the same day.
+	 *
+	 * @param group              the group
+	 * @param context            the generation context
+	 * @param dayAvailabilityMap map of available time slots per day
+	 * @param creditsToSchedule  number of credits to schedule
+	 * @param generatedSchedules the result list where valid schedules are added
+	 * @param orderedDays        days of the week ordered by priority
+	 * @return true if successful, false otherwise
+	 */
+	private boolean tryScheduleInOneDay(Group group, GenerationContext context,
+			Map<DayOfWeek, List<LocalTime>> dayAvailabilityMap, int creditsToSchedule,
+			List<Schedule> generatedSchedules, List<DayOfWeek> orderedDays) {
+		for (DayOfWeek day : orderedDays) {
+			if (!dayAvailabilityMap.containsKey(day))
+				continue;
+
+			List<LocalTime> availableOnDay = new ArrayList<>(dayAvailabilityMap.get(day));
+			if (availableOnDay.size() < creditsToSchedule)
+				continue;
+
+			List<Schedule> tempSchedules = new ArrayList<>();
+			boolean success = true;
+
+			for (int i = 0; i < creditsToSchedule; i++) {
+				Schedule schedule = context.newSchedule(group, day, availableOnDay.get(i));
+
+				// Validação em memória
+				if (!context.occupancy().isAvailable(schedule)) {
+					success = false;
+					break;
+				}
+
+				tempSchedules.add(schedule);
+			}
+
+			if (success) {
+				// Se todas as validações passaram, reserva os horários
+				for (Schedule s : tempSchedules) {
+					generatedSchedules.add(s);
+					context.occupancy().occupy(s);
+					dayAvailabilityMap.get(day).remove(s.getStartTime());
+				}
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Tries to split the group's credits between two different days.
+	 *
+	 * @param group              the group
+	 * @param context            the generation context
+	 * @param dayAvailabilityMap map of available time slots per day
+	 * @param creditsPerDay      how many credits to allocate each day
+	 * @param generatedSchedules result list where valid schedules are added
+	 * @param orderedDays        ordered days of the week
+	 * @return true if successful, false otherwise
+	 */
+	private boolean tryScheduleInTwoDays(Group group, GenerationContext context,
+			Map<DayOfWeek, List<LocalTime>> dayAvailabilityMap, int creditsPerDay,
+			List<Schedule> generatedSchedules, List<DayOfWeek> orderedDays) {
+		for (int i = 0; i < orderedDays.size(); i++) {
+			DayOfWeek day1 = orderedDays.get(i);
+
+			if (!dayAvailabilityMap.containsKey(day1))
+				continue;
+
+			for (int j = i + 1; j < orderedDays.size(); j++) {
+				DayOfWeek day2 = orderedDays.get(j);
+
+				if (!dayAvailabilityMap.containsKey(day2))
+					continue;
+
+				if (dayAvailabilityMap.get(day1).size() < creditsPerDay ||
+						dayAvailabilityMap.get(day2).size() < creditsPerDay) {
+					continue;
+				}
+
+				List<Schedule> tempSchedules = new ArrayList<>();
+				boolean success = tryDay(group, context, dayAvailabilityMap.get(day1), day1, creditsPerDay,
+						tempSchedules)
+						&& tryDay(group, context, dayAvailabilityMap.get(day2), day2, creditsPerDay, tempSchedules);
+
+				if (success && tempSchedules.size() >= context.creditsOf(group)) {
+					for (Schedule s : tempSchedules) {
+						generatedSchedules.add(s);
+						context.occupancy().occupy(s);
+						dayAvailabilityMap.get(s.getDayOfWeek()).remove(s.getStartTime());
+					}
+
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Checks the first available slots of a day, adding the valid ones to the
+	 * temporary list.
+	 *
+	 * @return false if any of the slots has a conflict
+	 */
+	private boolean tryDay(Group group, GenerationContext context, List<LocalTime> availableOnDay, DayOfWeek day,
+			int credits, List<Schedule> tempSchedules) {
+		for (int k = 0; k < credits; k++) {
+			if (k >= availableOnDay.size())
+				break;
+
+			Schedule schedule = context.newSchedule(group, day, availableOnDay.get(k));
+
+			if (!context.occupancy().isAvailable(schedule)) {
+				return false;
+			}
+
+			tempSchedules.add(schedule);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Finds the most suitable day to schedule a lesson for a group,
+	 * prioritizing days already used or with more availability.
+	 *
+	 * @param scheduledDays      days where the group already has a lesson
+	 * @param dayAvailabilityMap map of available time slots
+	 * @param orderedDays        ordered list of days of the week
+	 * @return the best available day
+	 */
+	private DayOfWeek findBestDayForGroup(Set<DayOfWeek> scheduledDays,
+			Map<DayOfWeek, List<LocalTime>> dayAvailabilityMap, List<DayOfWeek> orderedDays) {
+		for (DayOfWeek day : orderedDays) {
+			if (scheduledDays.contains(day) && dayAvailabilityMap.containsKey(day)
+					&& !dayAvailabilityMap.get(day).isEmpty()) {
+				return day;
+			}
+		}
+
+		for (DayOfWeek day : orderedDays) {
+			if (dayAvailabilityMap.containsKey(day) && !dayAvailabilityMap.get(day).isEmpty()) {
+				return day;
+			}
+		}
+
+		return orderedDays.isEmpty() ? DayOfWeek.MONDAY : orderedDays.get(0);
+	}
+
+	/**
+	 * Creates a schedule with a random start time on a given day.
+	 *
+	 * @param group              the group
+	 * @param context            the generation context
+	 * @param dayAvailabilityMap map of available slots
+	 * @param day                the selected day
+	 * @return the new schedule
+	 */
+	private Schedule createRandomScheduleOnDay(Group group, GenerationContext context,
+			Map<DayOfWeek, List<LocalTime>> dayAvailabilityMap, DayOfWeek day) {
+		List<LocalTime> availableOnDay = dayAvailabilityMap.get(day);
+
+		if (availableOnDay.isEmpty()) {
+			throw new IllegalStateException("No slots available for " + day);
+		}
+
+		int randomIndex = context.random().nextInt(availableOnDay.size());
+		return context.newSchedule(group, day, availableOnDay.get(randomIndex));
+	}
+
+}
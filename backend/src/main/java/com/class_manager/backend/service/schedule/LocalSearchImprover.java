@@ -0,0 +1,431 @@
+package com.class_manager.backend.service.schedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.class_manager.backend.model.Group;
+import com.class_manager.backend.model.Schedule;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Improvement phase applied to a generated timetable, based on simulated
+ * annealing.
+ *
+ * Only the lessons of the generation result are moved, everything else in the
+ * occupancy stays pinned. Each step either moves a lesson to another slot of
+ * the course grid or swaps the slots of two lessons, and is discarded when it
+ * would create a teacher, class room, group or cohort conflict. The cost
+ * minimized is the number of idle slots of the teachers between lessons of
+ * the same day plus the number of lesson pairs of a group on the same day, so
+ * the lessons of a group get spread across the week. Only the teachers and
+ * groups touched by a step are evaluated again (delta evaluation).
+ *
+ * The phase is skipped when its time limit is zero, which is the default.
+ * Since it is bounded by time, the number of steps taken, and therefore
+ * its result, may vary between runs with the same seed.
+ */
+@Slf4j
+@Component
+public class LocalSearchImprover {
+
+	private static final double INITIAL_TEMPERATURE = 2.0;
+	private static final double FINAL_TEMPERATURE = 0.01;
+	private static final int CLOCK_CHECK_INTERVAL = 1024;
+
+	private final long defaultTimeLimitMillis;
+
+	public LocalSearchImprover(
+			@Value("${schedule.generation.improvement-time-ms}") long defaultTimeLimitMillis) {
+		this.defaultTimeLimitMillis = defaultTimeLimitMillis;
+	}
+
+	/**
+	 * Improves the timetable in place, updating the schedules and the occupancy
+	 * of the context.
+	 *
+	 * @param context         the context the result was generated with
+	 * @param result          the generated timetable
+	 * @param timeLimitMillis how long the improvement may run, null to use the
+	 *                        configured default
+	 * @return the same result, with the improved placements
+	 */
+	public GenerationResult improve(GenerationContext context, GenerationResult result, Long timeLimitMillis) {
+		if (result.schedules().size() < 2 || !isEnabled(timeLimitMillis)) {
+			return result;
+		}
+
+		Annealing annealing = new Annealing(context, result.schedules());
+		annealing.run(timeLimitMillis != null ? timeLimitMillis : defaultTimeLimitMillis);
+		annealing.apply();
+
+		return result;
+	}
+
+	/**
+	 * @param timeLimitMillis the requested time limit, null for the configured
+	 *                        default
+	 * @return whether the improvement runs with this time limit
+	 */
+	public boolean isEnabled(Long timeLimitMillis) {
+		return (timeLimitMillis != null ? timeLimitMillis : defaultTimeLimitMillis) > 0;
+	}
+
+	/**
+	 * State of an improvement run. A position is encoded as
+	 * {@code dayIndex * slotsPerDay + slotIndex} of the course grid.
+	 */
+	static final class Annealing {
+
+		private final GenerationContext context;
+		private final List<Schedule> lessons;
+		private final Random random;
+		private final int slotsPerDay;
+		private final int positions;
+
+		private final int[] position;
+		private final int[] teacherOf;
+		private final int[] groupOf;
+		private final UUID[] teacherIds;
+		private final Long[] classRoomIds;
+		private final Cohort[] cohorts;
+
+		private final int[][] teacherSlots;
+		private final int[][] groupDays;
+
+		private int[] bestPosition;
+		private long cost;
+		private long bestCost;
+		private long steps;
+		private long acceptedSteps;
+
+		Annealing(GenerationContext context, List<Schedule> lessons) {
+			this.context = context;
+			this.lessons = lessons;
+			this.random = context.random();
+			this.slotsPerDay = context.slots().size();
+			this.positions = context.days().size() * slotsPerDay;
+
+			int size = lessons.size();
+			this.position = new int[size];
+			this.teacherOf = new int[size];
+			this.groupOf = new int[size];
+			this.teacherIds = new UUID[size];
+			this.classRoomIds = new Long[size];
+			this.cohorts = new Cohort[size];
+
+			Map<UUID, Integer> teachers = new HashMap<>();
+			Map<Long, Integer> groups = new HashMap<>();
+
+			for (int i = 0; i < size; i++) {
+				Schedule lesson = lessons.get(i);
+				Group group = lesson.getGroup();
+
+				teacherIds[i] = group.getDiscipline().getTeacher().getId();
+				classRoomIds[i] = group.getClassRoom().getId();
+				cohorts[i] = Cohort.of(group);
+				teacherOf[i] = teachers.computeIfAbsent(teacherIds[i], id -> teachers.size());
+				groupOf[i] = groups.computeIfAbsent(group.getId(), id -> groups.size());
+				position[i] = context.days().indexOf(lesson.getDayOfWeek()) * slotsPerDay
+						+ context.slots().indexOf(lesson.getStartTime());
+			}
+
+			this.teacherSlots = new int[teachers.size()][positions];
+			this.groupDays = new int[groups.size()][context.days().size()];
+
+			for (int i = 0; i < size; i++) {
+				add(i);
+			}
+
+			for (int t = 0; t < teachers.size(); t++) {
+				for (int day = 0; day < context.days().size(); day++) {
+					cost += teacherDayCost(t, day);
+				}
+			}
+
+			for (int g = 0; g < groups.size(); g++) {
+				for (int day = 0; day < context.days().size(); day++) {
+					cost += groupDayCost(g, day);
+				}
+			}
+
+			this.bestCost = cost;
+			this.bestPosition = position.clone();
+		}
+
+		void run(long timeLimitMillis) {
+			long start = System.nanoTime();
+			long limit = timeLimitMillis * 1_000_000L;
+			double temperature = INITIAL_TEMPERATURE;
+			long initialCost = cost;
+
+			while (true) {
+				if (steps % CLOCK_CHECK_INTERVAL == 0) {
+					double elapsed = (double) (System.nanoTime() - start) / limit;
+
+					if (elapsed >= 1.0 || bestCost == 0 || context.monitor().isCancelled())
+						break;
+
+					temperature = INITIAL_TEMPERATURE * Math.pow(FINAL_TEMPERATURE / INITIAL_TEMPERATURE, elapsed);
+				}
+
+				steps++;
+
+				int i = random.nextInt(lessons.size());
+
+				if (random.nextBoolean()) {
+					tryMove(i, random.nextInt(positions), temperature);
+				} else {
+					trySwap(i, random.nextInt(lessons.size()), temperature);
+				}
+			}
+
+			log.info("Local search: cost {} -> {} in {} steps ({} accepted)", initialCost, bestCost, steps,
+					acceptedSteps);
+		}
+
+		/**
+		 * Writes the best placements found back to the schedules and the
+		 * occupancy.
+		 */
+		void apply() {
+			for (int i = 0; i < lessons.size(); i++) {
+				release(i);
+			}
+
+			for (int i = 0; i < lessons.size(); i++) {
+				Schedule lesson = lessons.get(i);
+				position[i] = bestPosition[i];
+
+				lesson.setDayOfWeek(dayOf(position[i]));
+				lesson.setStartTime(startOf(position[i]));
+				lesson.setEndTime(endOf(position[i]));
+				occupy(i);
+			}
+		}
+
+		/**
+		 * @return the cost of the current placements, kept up to date by delta
+		 *         evaluation
+		 */
+		long cost() {
+			return cost;
+		}
+
+		long bestCost() {
+			return bestCost;
+		}
+
+		private void tryMove(int i, int target, double temperature) {
+			int origin = position[i];
+
+			if (target == origin)
+				return;
+
+			release(i);
+
+			if (!isFree(i, target)) {
+				occupy(i);
+				return;
+			}
+
+			long before = affectedCost(i, origin, target, -1, -1, -1);
+			remove(i);
+			position[i] = target;
+			add(i);
+			long delta = affectedCost(i, origin, target, -1, -1, -1) - before;
+
+			if (accept(delta, temperature)) {
+				occupy(i);
+				commit(delta);
+			} else {
+				remove(i);
+				position[i] = origin;
+				add(i);
+				occupy(i);
+			}
+		}
+
+		private void trySwap(int i, int j, double temperature) {
+			int originI = position[i];
+			int originJ = position[j];
+
+			if (i == j || groupOf[i] == groupOf[j] || originI == originJ)
+				return;
+
+			release(i);
+			release(j);
+			remove(i);
+			remove(j);
+
+			boolean feasible = isFree(i, originJ) && isFree(j, originI);
+
+			if (!feasible) {
+				restoreSwap(i, j, originI, originJ);
+				return;
+			}
+
+			add(i);
+			add(j);
+			long before = affectedCost(i, originI, originJ, j, originJ, originI);
+			remove(i);
+			remove(j);
+
+			position[i] = originJ;
+			position[j] = originI;
+			add(i);
+			add(j);
+			long delta = affectedCost(i, originI, originJ, j, originJ, originI) - before;
+
+			if (accept(delta, temperature)) {
+				occupy(i);
+				occupy(j);
+				commit(delta);
+			} else {
+				remove(i);
+				remove(j);
+				restoreSwap(i, j, originI, originJ);
+			}
+		}
+
+		private void restoreSwap(int i, int j, int originI, int originJ) {
+			position[i] = originI;
+			position[j] = originJ;
+			add(i);
+			add(j);
+			occupy(i);
+			occupy(j);
+		}
+
+		private boolean accept(long delta, double temperature) {
+			return delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature);
+		}
+
+		private void commit(long delta) {
+			cost += delta;
+			acceptedSteps++;
+
+			if (cost < bestCost) {
+				bestCost = cost;
+				bestPosition = position.clone();
+			}
+		}
+
+		/**
+		 * Sums the cost of the teacher days and group days touched by one or two
+		 * lessons changing position. Keys touched twice are only counted once.
+		 */
+		private long affectedCost(int i, int fromI, int toI, int j, int fromJ, int toJ) {
+			long total = 0;
+			int[] days = { dayIndex(fromI), dayIndex(toI), j >= 0 ? dayIndex(fromJ) : -1,
+					j >= 0 ? dayIndex(toJ) : -1 };
+
+			for (int k = 0; k < days.length; k++) {
+				if (days[k] < 0 || indexOf(days, days[k]) < k)
+					continue;
+
+				total += teacherDayCost(teacherOf[i], days[k]) + groupDayCost(groupOf[i], days[k]);
+
+				if (j >= 0) {
+					if (teacherOf[j] != teacherOf[i])
+						total += teacherDayCost(teacherOf[j], days[k]);
+
+					total += groupDayCost(groupOf[j], days[k]);
+				}
+			}
+
+			return total;
+		}
+
+		/**
+		 * Idle slots of a teacher between the first and the last lesson of a day.
+		 */
+		private long teacherDayCost(int teacher, int day) {
+			int[] slots = teacherSlots[teacher];
+			int from = day * slotsPerDay;
+			int first = -1;
+			int last = -1;
+			int busy = 0;
+
+			for (int s = from; s < from + slotsPerDay; s++) {
+				if (slots[s] > 0) {
+					if (first < 0)
+						first = s;
+
+					last = s;
+					busy++;
+				}
+			}
+
+			return first < 0 ? 0 : (last - first + 1) - busy;
+		}
+
+		/**
+		 * Pairs of lessons of a group sharing the same day.
+		 */
+		private long groupDayCost(int group, int day) {
+			int count = groupDays[group][day];
+			return (long) count * (count - 1) / 2;
+		}
+
+		private boolean isFree(int i, int target) {
+			return context.occupancy().isAvailable(teacherIds[i], classRoomIds[i], lessons.get(i).getGroup().getId(),
+					cohorts[i], dayOf(target), startOf(target), endOf(target));
+		}
+
+		private void add(int i) {
+			teacherSlots[teacherOf[i]][position[i]]++;
+			groupDays[groupOf[i]][dayIndex(position[i])]++;
+		}
+
+		private void remove(int i) {
+			teacherSlots[teacherOf[i]][position[i]]--;
+			groupDays[groupOf[i]][dayIndex(position[i])]--;
+		}
+
+		private void occupy(int i) {
+			context.occupancy().occupy(teacherIds[i], classRoomIds[i], lessons.get(i).getGroup().getId(), cohorts[i],
+					dayOf(position[i]), startOf(position[i]), endOf(position[i]));
+		}
+
+		private void release(int i) {
+			context.occupancy().release(teacherIds[i], classRoomIds[i], lessons.get(i).getGroup().getId(), cohorts[i],
+					dayOf(position[i]), startOf(position[i]), endOf(position[i]));
+		}
+
+		private int dayIndex(int target) {
+			return target / slotsPerDay;
+		}
+
+		private DayOfWeek dayOf(int target) {
+			return context.days().get(dayIndex(target));
+		}
+
+		private LocalTime startOf(int target) {
+			return context.slots().get(target % slotsPerDay);
+		}
+
+		private LocalTime endOf(int target) {
+			return startOf(target).plusMinutes(context.lessonDurationMinutes());
+		}
+
+		private static int indexOf(int[] values, int value) {
+			for (int k = 0; k < values.length; k++) {
+				if (values[k] == value)
+					return k;
+			}
+
+			return -1;
+		}
+
+	}
+
+}
@@ -0,0 +1,150 @@
+package com.class_manager.backend.service.schedule;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.class_manager.backend.model.Schedule;
+import com.class_manager.backend.model.Semester;
+import com.class_manager.backend.repository.ScheduleRepository;
+import com.class_manager.backend.service.SemesterService;
+import com.class_manager.backend.utils.SemesterUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the public timetable of the current semester serialized in memory, as
+ * plain and gzipped JSON, so serving it costs no query and no serialization.
+ *
+ * The snapshot is marked stale when a schedule write commits, or when the
+ * current semester or its maximum age is passed, and built again by the next
+ * request. Only one request builds it, the others wait for it. A snapshot
+ * built across a write is never served after it.
+ */
+@Slf4j
+@Component
+public class PublicTimetableCache {
+
+	private final SemesterService semesterService;
+	private final ScheduleRepository scheduleRepository;
+	private final ObjectMapper objectMapper;
+	private final long maxAgeNanos;
+
+	// Incremented on every write, a snapshot of an older version is stale
+	private final AtomicLong version = new AtomicLong();
+	private volatile PublicTimetableSnapshot snapshot;
+
+	public PublicTimetableCache(
+			SemesterService semesterService,
+			ScheduleRepository scheduleRepository,
+			ObjectMapper objectMapper,
+			@Value("${schedule.public-snapshot.max-age-seconds}") long maxAgeSeconds) {
+		this.semesterService = semesterService;
+		this.scheduleRepository = scheduleRepository;
+		this.objectMapper = objectMapper;
+		this.maxAgeNanos = TimeUnit.SECONDS.toNanos(maxAgeSeconds);
+	}
+
+	/**
+	 * @return the public timetable of the current semester
+	 * @throws jakarta.persistence.EntityNotFoundException if the current
+	 *                                                     semester does not
+	 *                                                     exist
+	 */
+	public PublicTimetableSnapshot get() {
+		PublicTimetableSnapshot current = snapshot;
+
+		if (isFresh(current))
+			return current;
+
+		synchronized (this) {
+			current = snapshot;
+
+			if (isFresh(current))
+				return current;
+
+			snapshot = build();
+			return snapshot;
+		}
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onScheduleChanged(ScheduleChangedEvent event) {
+		PublicTimetableSnapshot current = snapshot;
+
+		// Lessons of other semesters are not part of the public timetable
+		if (current != null && !event.affects(current.semesterId()))
+			return;
+
+		version.incrementAndGet();
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private boolean isFresh(PublicTimetableSnapshot current) {
+		if (current == null || current.version() != version.get())
+			return false;
+
+		LocalDate now = LocalDate.now();
+
+		return current.year() == now.getYear()
+				&& current.number() == SemesterUtils.getSemesterNumber(now.getMonthValue())
+				&& System.nanoTime() - current.builtAt() < maxAgeNanos;
+	}
+
+	private PublicTimetableSnapshot build() {
+		long builtVersion = version.get();
+		long builtAt = System.nanoTime();
+		Semester semester = semesterService.findActualSemester();
+		List<Schedule> schedules = scheduleRepository.findSchedulesBySemester(semester.getId());
+
+		try {
+			byte[] json = objectMapper.writeValueAsBytes(schedules);
+			byte[] gzipJson = gzip(json);
+			String hash = sha256(json);
+
+			log.info("Built public timetable snapshot of semester {} with {} schedules, {} bytes ({} gzipped)",
+					semester.getId(), schedules.size(), json.length, gzipJson.length);
+			return new PublicTimetableSnapshot(semester.getId(), semester.getYear(), semester.getNumber(),
+					builtVersion, builtAt, json, gzipJson, "\"" + hash + "\"", "\"" + hash + "-gzip\"");
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Could not serialize the public timetable", e);
+		}
+	}
+
+	private static byte[] gzip(byte[] bytes) {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4 + 64);
+
+		try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+			gzip.write(bytes);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return output.toByteArray();
+	}
+
+	private static String sha256(byte[] bytes) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes), 0, 16);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -0,0 +1,35 @@
+package com.class_manager.backend.service.schedule;
+
+/**
+ * The public timetable of a semester, already serialized.
+ *
+ * @param semesterId the ID of the semester
+ * @param year       the year of the semester
+ * @param number     the number of the semester in the year
+ * @param version    the version of the cache it was built at
+ * @param builtAt    when it was built, in {@link System#nanoTime()}
+ * @param json       the schedules serialized as JSON
+ * @param gzipJson   the same JSON, gzipped
+ * @param etag       strong entity tag of the JSON representation
+ * @param gzipEtag   strong entity tag of the gzipped representation
+ */
+public record PublicTimetableSnapshot(
+		Long semesterId,
+		int year,
+		int number,
+		long version,
+		long builtAt,
+		byte[] json,
+		byte[] gzipJson,
+		String etag,
+		String gzipEtag) {
+
+	public byte[] body(boolean gzip) {
+		return gzip ? gzipJson : json;
+	}
+
+	public String etag(boolean gzip) {
+		return gzip ? gzipEtag : etag;
+	}
+
+}
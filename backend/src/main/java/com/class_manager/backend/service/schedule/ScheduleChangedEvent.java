@@ -0,0 +1,20 @@
+package com.class_manager.backend.service.schedule;
+
+/**
+ * Published whenever schedules are written, so the in-memory views of the
+ * timetable are evicted.
+ *
+ * @param semesterId the semester whose schedules changed, or {@code null} when
+ *                   lessons of any semester may have changed
+ */
+public record ScheduleChangedEvent(Long semesterId) {
+
+	public static ScheduleChangedEvent allSemesters() {
+		return new ScheduleChangedEvent(null);
+	}
+
+	public boolean affects(Long semesterId) {
+		return this.semesterId == null || this.semesterId.equals(semesterId);
+	}
+
+}
@@ -0,0 +1,101 @@
+package com.class_manager.backend.service.schedule;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.class_manager.backend.dto.model.schedule.LessonDto;
+import com.class_manager.backend.dto.model.schedule.LessonMoveDto;
+import com.class_manager.backend.dto.model.schedule.ScheduleDiffDto;
+import com.class_manager.backend.model.Schedule;
+
+/**
+ * Compares a proposed timetable with the persisted one, group by group.
+ *
+ * Lessons of a group at the same day and time on both sides are unchanged.
+ * The remaining ones are paired in chronological order as moves, and what is
+ * left over on either side is added or removed.
+ */
+public final class ScheduleDiff {
+
+	private static final Comparator<Schedule> CHRONOLOGICAL = Comparator.comparing(Schedule::getDayOfWeek)
+			.thenComparing(Schedule::getStartTime);
+
+	private ScheduleDiff() {
+	}
+
+	public static ScheduleDiffDto of(List<Schedule> current, List<Schedule> proposed) {
+		Map<Long, List<Schedule>> currentByGroup = byGroup(current);
+		Map<Long, List<Schedule>> proposedByGroup = byGroup(proposed);
+
+		List<LessonDto> added = new ArrayList<>();
+		List<LessonDto> removed = new ArrayList<>();
+		List<LessonMoveDto> moved = new ArrayList<>();
+		int unchanged = 0;
+
+		for (Map.Entry<Long, List<Schedule>> entry : currentByGroup.entrySet()) {
+			List<Schedule> before = entry.getValue();
+			List<Schedule> after = proposedByGroup.getOrDefault(entry.getKey(), new ArrayList<>());
+
+			Iterator<Schedule> iterator = before.iterator();
+
+			while (iterator.hasNext()) {
+				Schedule lesson = iterator.next();
+				Schedule same = after.stream().filter(other -> sameSlot(lesson, other)).findFirst().orElse(null);
+
+				if (same != null) {
+					iterator.remove();
+					after.remove(same);
+					unchanged++;
+				}
+			}
+
+			int pairs = Math.min(before.size(), after.size());
+
+			for (int i = 0; i < pairs; i++) {
+				Schedule from = before.get(i);
+				Schedule to = after.get(i);
+
+				moved.add(new LessonMoveDto(from.getId(), entry.getKey(), from.getDayOfWeek(), from.getStartTime(),
+						to.getDayOfWeek(), to.getStartTime(), to.getEndTime()));
+			}
+
+			before.subList(pairs, before.size()).forEach(lesson -> removed.add(toLesson(lesson)));
+			after.subList(pairs, after.size()).forEach(lesson -> added.add(toLesson(lesson)));
+			proposedByGroup.remove(entry.getKey());
+		}
+
+		proposedByGroup.values().forEach(lessons -> lessons.forEach(lesson -> added.add(toLesson(lesson))));
+
+		return new ScheduleDiffDto(added, removed, moved, unchanged);
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private static Map<Long, List<Schedule>> byGroup(List<Schedule> schedules) {
+		Map<Long, List<Schedule>> result = new LinkedHashMap<>();
+
+		schedules.stream()
+				.sorted(Comparator.comparing((Schedule schedule) -> schedule.getGroup().getId()).thenComparing(CHRONOLOGICAL))
+				.forEach(schedule -> result.computeIfAbsent(schedule.getGroup().getId(), id -> new ArrayList<>())
+						.add(schedule));
+
+		return result;
+	}
+
+	private static boolean sameSlot(Schedule a, Schedule b) {
+		return a.getDayOfWeek() == b.getDayOfWeek()
+				&& Objects.equals(a.getStartTime(), b.getStartTime())
+				&& Objects.equals(a.getEndTime(), b.getEndTime());
+	}
+
+	private static LessonDto toLesson(Schedule schedule) {
+		return new LessonDto(schedule.getId(), schedule.getGroup().getId(), schedule.getDayOfWeek(),
+				schedule.getStartTime(), schedule.getEndTime());
+	}
+
+}
@@ -0,0 +1,165 @@
+package com.class_manager.backend.service.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs one or more independently seeded generation attempts and keeps the
+ * best one.
+ *
+ * Attempts run in parallel on a dedicated {@link ForkJoinPool} sized to the
+ * available processors, each one over its own copy of the occupancy, so they
+ * never see each other's lessons. A run started from a task already on the
+ * pool, e.g. a course of a semester wide generation, runs its attempts one
+ * after the other on the calling thread instead, so the attempts never
+ * compete with the tasks for the workers nor block one waiting for them. With an engine whose runs are
+ * {@link ScheduleGenerator#isReproducible() reproducible}, the seed of an
+ * attempt fully determines its result, so running a single attempt with the
+ * returned seed reproduces the winning timetable. The backtracking engine
+ * stops at a time budget, and the improvement phase at a time limit, so a
+ * run using either is not reproduced by its seed.
+ */
+@Slf4j
+@Component
+public class ScheduleGenerationRunner {
+
+	public static final int MAX_ATTEMPTS = 64;
+
+	// Spreads the seeds of consecutive attempts (same constant as SplittableRandom)
+	private static final long SEED_GAMMA = 0x9E3779B97F4A7C15L;
+
+	private final ForkJoinPool pool;
+
+	public ScheduleGenerationRunner() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	ScheduleGenerationRunner(int parallelism) {
+		this.pool = new ForkJoinPool(parallelism);
+	}
+
+	/**
+	 * Runs the generation attempts.
+	 *
+	 * @param generator the engine used by every attempt
+	 * @param context   the base context, used as is by the first attempt
+	 * @param attempts  the number of attempts, limited to {@link #MAX_ATTEMPTS}
+	 * @param seed      the seed of the first attempt
+	 * @return the attempt with the best {@link GenerationScore}
+	 */
+	public GenerationOutcome run(ScheduleGenerator generator, GenerationContext context, int attempts, long seed) {
+		int total = Math.min(Math.max(attempts, 1), MAX_ATTEMPTS);
+		context.monitor().attemptsStarted(total);
+
+		if (total == 1) {
+			return runAttempt(generator, context, seed);
+		}
+
+		List<Callable<GenerationOutcome>> tasks = new ArrayList<>();
+
+		for (int i = 0; i < total; i++) {
+			long attemptSeed = deriveSeed(seed, i);
+			GenerationContext attemptContext = context.withAttempt(new Random(attemptSeed),
+					context.occupancy().copy());
+
+			tasks.add(() -> runAttempt(generator, attemptContext, attemptSeed));
+		}
+
+		GenerationOutcome best = null;
+
+		for (GenerationOutcome outcome : isOnPool() ? callAll(tasks) : runAll(tasks)) {
+			if (best == null || GenerationScore.BEST_FIRST.compare(outcome.score(), best.score()) < 0) {
+				best = outcome;
+			}
+		}
+
+		log.info("Best of {} generation attempts: seed {}, {}", tasks.size(), best.seed(), best.score());
+		return best;
+	}
+
+	/**
+	 * Runs independent generation tasks in parallel on the generation pool,
+	 * waiting for all of them.
+	 *
+	 * @param tasks the tasks, each one working over its own occupancy
+	 * @return the results, in the order of the tasks
+	 */
+	public <T> List<T> runAll(List<? extends Callable<T>> tasks) {
+		List<T> results = new ArrayList<>();
+
+		for (Future<T> future : pool.invokeAll(tasks)) {
+			results.add(getResult(future));
+		}
+
+		return results;
+	}
+
+	/**
+	 * Derives the seed of the i-th independent part of a run (an attempt or a
+	 * course), so one seed reproduces the whole run.
+	 */
+	public static long deriveSeed(long seed, long index) {
+		return seed + index * SEED_GAMMA;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		pool.shutdownNow();
+	}
+
+	private boolean isOnPool() {
+		return Thread.currentThread() instanceof ForkJoinWorkerThread worker && worker.getPool() == pool;
+	}
+
+	/**
+	 * Runs the tasks one after the other on the calling thread.
+	 */
+	private static <T> List<T> callAll(List<? extends Callable<T>> tasks) {
+		List<T> results = new ArrayList<>();
+
+		for (Callable<T> task : tasks) {
+			try {
+				results.add(task.call());
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new IllegalStateException("Schedule generation attempt failed", e);
+			}
+		}
+
+		return results;
+	}
+
+	private GenerationOutcome runAttempt(ScheduleGenerator generator, GenerationContext context, long seed) {
+		GenerationResult result = generator.generate(context);
+		context.monitor().attemptCompleted();
+		return new GenerationOutcome(result, seed, GenerationScore.of(result.schedules()), context);
+	}
+
+	private <T> T getResult(Future<T> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Schedule generation interrupted", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof CancellationException cancellation)
+				throw cancellation;
+
+			throw new IllegalStateException("Schedule generation attempt failed", e.getCause());
+		}
+	}
+
+}
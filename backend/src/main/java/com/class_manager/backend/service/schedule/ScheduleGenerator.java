@@ -0,0 +1,26 @@
+package com.class_manager.backend.service.schedule;
+
+import com.class_manager.backend.enums.GenerationEngine;
+
+/**
+ * Engine able to build the timetable of a course in memory.
+ *
+ * Implementations must only place lessons accepted by the
+ * {@link ScheduleOccupancyIndex} of the context, and must occupy every
+ * lesson they return in it.
+ */
+public interface ScheduleGenerator {
+
+	GenerationEngine engine();
+
+	GenerationResult generate(GenerationContext context);
+
+	/**
+	 * Whether a run only depends on the seed of its context. A run bounded by
+	 * a time budget may stop at a different point each time.
+	 */
+	default boolean isReproducible() {
+		return true;
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.class_manager.backend.service.schedule;
+
+import java.util.Collection;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.class_manager.backend.enums.ConflictType;
+import com.class_manager.backend.model.ClassRoom;
+import com.class_manager.backend.model.Schedule;
+import com.class_manager.backend.model.User;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serializes concurrent writes of lessons sharing a teacher, a class room or a
+ * group in the same semester, so the conflict check and the write of one
+ * transaction are never interleaved with another one.
+ *
+ * Each (semester, resource) pair maps to a PostgreSQL transaction level
+ * advisory lock, released on commit or rollback, which also works with more
+ * than one instance of the application. Writes on unrelated resources never
+ * wait for each other. Keys are taken in ascending order, so two
+ * transactions locking the same resources cannot deadlock.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleLocks {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Locks the teacher, the class room and the group of each lesson in its
+	 * semester until the current transaction ends.
+	 *
+	 * @param schedules the lessons about to be written
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void lock(Collection<Schedule> schedules) {
+		SortedSet<Long> keys = new TreeSet<>();
+
+		for (Schedule schedule : schedules) {
+			Long semesterId = schedule.getSemesterId();
+			User teacher = schedule.getGroup().getDiscipline().getTeacher();
+			ClassRoom classRoom = schedule.getGroup().getClassRoom();
+
+			if (teacher != null)
+				keys.add(key(ConflictType.TEACHER, semesterId, teacher.getId()));
+
+			if (classRoom != null)
+				keys.add(key(ConflictType.CLASS_ROOM, semesterId, classRoom.getId()));
+
+			keys.add(key(ConflictType.GROUP, semesterId, schedule.getGroup().getId()));
+		}
+
+		for (Long key : keys) {
+			jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(?)", key);
+		}
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	/**
+	 * Builds the lock key of a resource: the type in the high half, a hash of
+	 * the semester and the resource in the low half. A collision only makes two
+	 * unrelated writes wait for each other.
+	 */
+	private static long key(ConflictType type, Long semesterId, Object resourceId) {
+		int hash = 31 * semesterId.hashCode() + resourceId.hashCode();
+		return ((long) (type.ordinal() + 1) << 32) | (hash & 0xFFFFFFFFL);
+	}
+
+}
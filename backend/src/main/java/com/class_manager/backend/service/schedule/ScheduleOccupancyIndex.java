@@ -0,0 +1,317 @@
+package com.class_manager.backend.service.schedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.class_manager.backend.dto.model.schedule.OccupiedSlot;
+import com.class_manager.backend.enums.ConflictType;
+import com.class_manager.backend.model.ClassRoom;
+import com.class_manager.backend.model.Schedule;
+import com.class_manager.backend.model.User;
+
+/**
+ * In-memory occupancy of the schedules of a semester, used to check conflicts
+ * without querying the database for every candidate slot.
+ *
+ * Every teacher, class room, group and cohort owns one {@link BitSet} per day
+ * of the week, where each bit represents a minute of the day. A lesson is free
+ * of conflicts when none of its minutes is set in the bitsets of its teacher,
+ * class room, group and cohort. The cohort is only a rule of the generators
+ * and of the improver: manual edits check lessons with
+ * {@link #findResourceConflicts(Schedule)}, and may overlap other groups of
+ * the cohort, e.g. parallel sections.
+ */
+public class ScheduleOccupancyIndex {
+
+	private static final int DAYS_OF_WEEK = 7;
+	private static final int MINUTES_PER_DAY = 24 * 60;
+
+	private final Map<UUID, BitSet[]> teacherOccupancy;
+	private final Map<Long, BitSet[]> classRoomOccupancy;
+	private final Map<Long, BitSet[]> groupOccupancy;
+	private final Map<Cohort, BitSet[]> cohortOccupancy;
+
+	public ScheduleOccupancyIndex() {
+		this.teacherOccupancy = new HashMap<>();
+		this.classRoomOccupancy = new HashMap<>();
+		this.groupOccupancy = new HashMap<>();
+		this.cohortOccupancy = new HashMap<>();
+	}
+
+	private ScheduleOccupancyIndex(ScheduleOccupancyIndex source) {
+		this.teacherOccupancy = deepCopy(source.teacherOccupancy);
+		this.classRoomOccupancy = deepCopy(source.classRoomOccupancy);
+		this.groupOccupancy = deepCopy(source.groupOccupancy);
+		this.cohortOccupancy = deepCopy(source.cohortOccupancy);
+	}
+
+	/**
+	 * Builds an index from the occupied slots of a semester.
+	 *
+	 * @param slots the slots already taken
+	 * @return the populated index
+	 */
+	public static ScheduleOccupancyIndex of(Collection<OccupiedSlot> slots) {
+		ScheduleOccupancyIndex index = new ScheduleOccupancyIndex();
+
+		for (OccupiedSlot slot : slots) {
+			index.occupy(slot.teacherId(), slot.classRoomId(), slot.groupId(),
+					Cohort.of(slot.courseId(), slot.semesterOfCourse()), slot.dayOfWeek(), slot.startTime(),
+					slot.endTime());
+		}
+
+		return index;
+	}
+
+	/**
+	 * Creates an independent copy of this index, so it can be changed without
+	 * affecting the original.
+	 *
+	 * @return the copied index
+	 */
+	public ScheduleOccupancyIndex copy() {
+		return new ScheduleOccupancyIndex(this);
+	}
+
+	public boolean isTeacherAvailable(UUID teacherId, DayOfWeek day, LocalTime start, LocalTime end) {
+		return isFree(teacherOccupancy, teacherId, day, start, end);
+	}
+
+	public boolean isClassRoomAvailable(Long classRoomId, DayOfWeek day, LocalTime start, LocalTime end) {
+		return isFree(classRoomOccupancy, classRoomId, day, start, end);
+	}
+
+	public boolean isGroupAvailable(Long groupId, DayOfWeek day, LocalTime start, LocalTime end) {
+		return isFree(groupOccupancy, groupId, day, start, end);
+	}
+
+	public boolean isCohortAvailable(Cohort cohort, DayOfWeek day, LocalTime start, LocalTime end) {
+		return isFree(cohortOccupancy, cohort, day, start, end);
+	}
+
+	/**
+	 * Checks if the teacher, the class room, the group and its cohort are all
+	 * free in the given interval.
+	 */
+	public boolean isAvailable(UUID teacherId, Long classRoomId, Long groupId, Cohort cohort, DayOfWeek day,
+			LocalTime start, LocalTime end) {
+		return isTeacherAvailable(teacherId, day, start, end)
+				&& isClassRoomAvailable(classRoomId, day, start, end)
+				&& isGroupAvailable(groupId, day, start, end)
+				&& isCohortAvailable(cohort, day, start, end);
+	}
+
+	/**
+	 * Checks if a schedule can be placed without conflicting with any occupied
+	 * slot.
+	 *
+	 * @param schedule the schedule to check
+	 * @return true if there is no teacher, class room, group or cohort conflict
+	 */
+	public boolean isAvailable(Schedule schedule) {
+		return isAvailable(teacherIdOf(schedule), classRoomIdOf(schedule), schedule.getGroup().getId(),
+				Cohort.of(schedule.getGroup()), schedule.getDayOfWeek(), schedule.getStartTime(),
+				schedule.getEndTime());
+	}
+
+	/**
+	 * Finds which of the teacher, the class room, the group and its cohort are
+	 * already taken in the given interval. Slower than
+	 * {@link #isAvailable(UUID, Long, Long, Cohort, DayOfWeek, LocalTime, LocalTime)},
+	 * which stops at the first conflict, so it is meant to explain a rejection.
+	 * The cohort is only reported when the group itself is free, a lesson of
+	 * the same group is already reported as a group conflict.
+	 *
+	 * @return the conflicting resources, empty if the interval is free
+	 */
+	public EnumSet<ConflictType> findConflicts(UUID teacherId, Long classRoomId, Long groupId, Cohort cohort,
+			DayOfWeek day, LocalTime start, LocalTime end) {
+		EnumSet<ConflictType> conflicts = EnumSet.noneOf(ConflictType.class);
+
+		if (!isTeacherAvailable(teacherId, day, start, end))
+			conflicts.add(ConflictType.TEACHER);
+
+		if (!isClassRoomAvailable(classRoomId, day, start, end))
+			conflicts.add(ConflictType.CLASS_ROOM);
+
+		if (!isGroupAvailable(groupId, day, start, end))
+			conflicts.add(ConflictType.GROUP);
+		else if (!isCohortAvailable(cohort, day, start, end))
+			conflicts.add(ConflictType.COHORT);
+
+		return conflicts;
+	}
+
+	public EnumSet<ConflictType> findConflicts(Schedule schedule) {
+		return findConflicts(teacherIdOf(schedule), classRoomIdOf(schedule), schedule.getGroup().getId(),
+				Cohort.of(schedule.getGroup()), schedule.getDayOfWeek(), schedule.getStartTime(),
+				schedule.getEndTime());
+	}
+
+	/**
+	 * Same as {@link #findConflicts(Schedule)}, without the cohort of the
+	 * group, for the lessons written by hand.
+	 *
+	 * @return the teacher, class room and group conflicts
+	 */
+	public EnumSet<ConflictType> findResourceConflicts(Schedule schedule) {
+		return findConflicts(teacherIdOf(schedule), classRoomIdOf(schedule), schedule.getGroup().getId(), null,
+				schedule.getDayOfWeek(), schedule.getStartTime(), schedule.getEndTime());
+	}
+
+	/**
+	 * Merges the minutes of a day taken by a teacher, a class room, a group or
+	 * its cohort, so the free intervals of all of them can be found in a single
+	 * pass.
+	 *
+	 * @return a new bitset, with one bit per minute of the day
+	 */
+	public BitSet occupiedMinutes(UUID teacherId, Long classRoomId, Long groupId, Cohort cohort, DayOfWeek day) {
+		BitSet merged = new BitSet();
+		merge(merged, teacherOccupancy, teacherId, day);
+		merge(merged, classRoomOccupancy, classRoomId, day);
+		merge(merged, groupOccupancy, groupId, day);
+		merge(merged, cohortOccupancy, cohort, day);
+		return merged;
+	}
+
+	/**
+	 * Checks if no minute of an interval is set in a bitset returned by
+	 * {@link #occupiedMinutes(UUID, Long, Long, Cohort, DayOfWeek)}.
+	 */
+	public static boolean isFree(BitSet minutes, LocalTime start, LocalTime end) {
+		int firstOccupied = minutes.nextSetBit(toMinute(start));
+		return firstOccupied < 0 || firstOccupied >= toEndMinute(start, end);
+	}
+
+	/**
+	 * Clears an interval of a bitset returned by
+	 * {@link #occupiedMinutes(UUID, Long, Long, Cohort, DayOfWeek)}.
+	 */
+	public static void clear(BitSet minutes, LocalTime start, LocalTime end) {
+		minutes.clear(toMinute(start), toEndMinute(start, end));
+	}
+
+	public void occupy(UUID teacherId, Long classRoomId, Long groupId, Cohort cohort, DayOfWeek day,
+			LocalTime start, LocalTime end) {
+		mark(teacherOccupancy, teacherId, day, start, end, true);
+		mark(classRoomOccupancy, classRoomId, day, start, end, true);
+		mark(groupOccupancy, groupId, day, start, end, true);
+		mark(cohortOccupancy, cohort, day, start, end, true);
+	}
+
+	/**
+	 * Marks the slot of a schedule as occupied.
+	 *
+	 * @param schedule the schedule being placed
+	 */
+	public void occupy(Schedule schedule) {
+		occupy(teacherIdOf(schedule), classRoomIdOf(schedule), schedule.getGroup().getId(),
+				Cohort.of(schedule.getGroup()), schedule.getDayOfWeek(), schedule.getStartTime(),
+				schedule.getEndTime());
+	}
+
+	public void release(UUID teacherId, Long classRoomId, Long groupId, Cohort cohort, DayOfWeek day,
+			LocalTime start, LocalTime end) {
+		mark(teacherOccupancy, teacherId, day, start, end, false);
+		mark(classRoomOccupancy, classRoomId, day, start, end, false);
+		mark(groupOccupancy, groupId, day, start, end, false);
+		mark(cohortOccupancy, cohort, day, start, end, false);
+	}
+
+	/**
+	 * Frees the slot of a schedule.
+	 *
+	 * @param schedule the schedule being removed
+	 */
+	public void release(Schedule schedule) {
+		release(teacherIdOf(schedule), classRoomIdOf(schedule), schedule.getGroup().getId(),
+				Cohort.of(schedule.getGroup()), schedule.getDayOfWeek(), schedule.getStartTime(),
+				schedule.getEndTime());
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private static UUID teacherIdOf(Schedule schedule) {
+		User teacher = schedule.getGroup().getDiscipline().getTeacher();
+		return teacher != null ? teacher.getId() : null;
+	}
+
+	private static Long classRoomIdOf(Schedule schedule) {
+		ClassRoom classRoom = schedule.getGroup().getClassRoom();
+		return classRoom != null ? classRoom.getId() : null;
+	}
+
+	private static <K> boolean isFree(Map<K, BitSet[]> occupancy, K key, DayOfWeek day, LocalTime start,
+			LocalTime end) {
+		if (key == null)
+			return true;
+
+		BitSet[] days = occupancy.get(key);
+
+		if (days == null || days[day.ordinal()] == null)
+			return true;
+
+		return isFree(days[day.ordinal()], start, end);
+	}
+
+	private static <K> void merge(BitSet target, Map<K, BitSet[]> occupancy, K key, DayOfWeek day) {
+		if (key == null)
+			return;
+
+		BitSet[] days = occupancy.get(key);
+
+		if (days != null && days[day.ordinal()] != null)
+			target.or(days[day.ordinal()]);
+	}
+
+	private static <K> void mark(Map<K, BitSet[]> occupancy, K key, DayOfWeek day, LocalTime start, LocalTime end,
+			boolean occupied) {
+		if (key == null)
+			return;
+
+		BitSet[] days = occupancy.computeIfAbsent(key, k -> new BitSet[DAYS_OF_WEEK]);
+
+		if (days[day.ordinal()] == null)
+			days[day.ordinal()] = new BitSet();
+
+		days[day.ordinal()].set(toMinute(start), toEndMinute(start, end), occupied);
+	}
+
+	private static <K> Map<K, BitSet[]> deepCopy(Map<K, BitSet[]> source) {
+		Map<K, BitSet[]> copy = new HashMap<>(source.size());
+
+		source.forEach((key, days) -> {
+			BitSet[] copiedDays = new BitSet[DAYS_OF_WEEK];
+
+			for (int i = 0; i < DAYS_OF_WEEK; i++) {
+				if (days[i] != null)
+					copiedDays[i] = (BitSet) days[i].clone();
+			}
+
+			copy.put(key, copiedDays);
+		});
+
+		return copy;
+	}
+
+	private static int toMinute(LocalTime time) {
+		return time.getHour() * 60 + time.getMinute();
+	}
+
+	/**
+	 * A lesson ending at midnight, or past it, takes the minutes up to the end
+	 * of its day.
+	 */
+	private static int toEndMinute(LocalTime start, LocalTime end) {
+		int endMinute = toMinute(end);
+		return endMinute <= toMinute(start) ? MINUTES_PER_DAY : endMinute;
+	}
+
+}
@@ -0,0 +1,212 @@
+package com.class_manager.backend.service.schedule;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.class_manager.backend.dto.model.schedule.ConflictReport;
+import com.class_manager.backend.dto.model.schedule.GroupChangeConflict;
+import com.class_manager.backend.dto.model.schedule.ScheduleConflict;
+import com.class_manager.backend.exceptions.InvalidScheduleException;
+import com.class_manager.backend.model.ClassRoom;
+import com.class_manager.backend.model.Discipline;
+import com.class_manager.backend.model.Group;
+import com.class_manager.backend.model.Schedule;
+import com.class_manager.backend.model.User;
+import com.class_manager.backend.repository.GroupRepository;
+import com.class_manager.backend.repository.ScheduleRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Swaps timetables built in memory into the database.
+ *
+ * The old schedules are removed with a single bulk DELETE and the new ones
+ * inserted in JDBC batches, both in the same transaction, so readers always
+ * see either the old or the new timetable and a failure leaves the old one
+ * in place. The delete of removed lessons skips the automatic flush of the
+ * persistence context, so it reaches the database before the updates of
+ * moved lessons and the inserts: a lesson may take the slot of a removed one
+ * without tripping the unique slot constraint, which, unlike the overlap
+ * constraints, is not deferred.
+ *
+ * Every write is checked by the overlap exclusion constraints of the schedule
+ * table before returning, so a lesson saved concurrently by someone else is
+ * reported as an {@link InvalidScheduleException}. The teacher, class room and
+ * group of the lessons written are locked with {@link ScheduleLocks} first,
+ * so the generations, which check their lessons outside of any transaction,
+ * never write in the middle of a manual edit checking the same resources.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleWriter {
+
+	private final ScheduleRepository scheduleRepository;
+	private final GroupRepository groupRepository;
+	private final ScheduleLocks scheduleLocks;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * Replaces the whole timetable of some courses in a semester.
+	 *
+	 * @param semesterId the ID of the semester
+	 * @param courseIds  the courses whose schedules are replaced
+	 * @param schedules  the new schedules of those courses
+	 * @return the saved schedules
+	 */
+	@Transactional
+	public List<Schedule> replaceCourses(Long semesterId, Collection<Long> courseIds, List<Schedule> schedules) {
+		scheduleLocks.lock(schedules);
+
+		int deleted = courseIds.isEmpty() ? 0 : scheduleRepository.deleteBySemesterAndCourses(semesterId, courseIds);
+		List<Schedule> savedSchedules = saveAll(schedules);
+		eventPublisher.publishEvent(new ScheduleChangedEvent(semesterId));
+
+		log.info("Replaced {} schedules with {} for {} courses of semester {}", deleted, savedSchedules.size(),
+				courseIds.size(), semesterId);
+		return savedSchedules;
+	}
+
+	/**
+	 * Removes some schedules of a semester and saves others, new or changed.
+	 *
+	 * @param semesterId the ID of the semester
+	 * @param removedIds the IDs of the schedules to remove
+	 * @param schedules  the schedules to save
+	 * @return the saved schedules
+	 */
+	@Transactional
+	public List<Schedule> replace(Long semesterId, Collection<Long> removedIds, List<Schedule> schedules) {
+		scheduleLocks.lock(schedules);
+
+		if (!removedIds.isEmpty()) {
+			entityManager.createQuery("DELETE FROM Schedule s WHERE s.id IN :ids")
+					.setParameter("ids", removedIds)
+					.setFlushMode(FlushModeType.COMMIT)
+					.executeUpdate();
+		}
+
+		List<Schedule> savedSchedules = saveAll(schedules);
+		eventPublisher.publishEvent(new ScheduleChangedEvent(semesterId));
+		return savedSchedules;
+	}
+
+	/**
+	 * Saves a single schedule, already validated by the caller.
+	 *
+	 * @param schedule the schedule to save
+	 * @return the saved schedule
+	 * @throws InvalidScheduleException if it overlaps a lesson saved since the
+	 *                                  validation
+	 */
+	@Transactional
+	public Schedule save(Schedule schedule) {
+		return saveAll(List.of(schedule)).get(0);
+	}
+
+	/**
+	 * Brings the teacher and class room copied into the lessons of a group up
+	 * to date after the group changed, in the semesters not finalized yet.
+	 * Nothing is removed: when a lesson would overlap a lesson of another group
+	 * sharing the new teacher or class room, the change is rejected
+	 * and the caller's transaction rolled back.
+	 *
+	 * @param group the changed group
+	 * @throws InvalidScheduleException with a conflict for each overlap
+	 */
+	@Transactional
+	public void syncGroup(Group group) {
+		UUID teacherId = teacherIdOf(group.getDiscipline());
+		ClassRoom classRoom = group.getClassRoom();
+		Long classRoomId = classRoom != null ? classRoom.getId() : null;
+
+		rejectConflicts(scheduleRepository.findGroupChangeConflicts(List.of(group.getId()), teacherId, classRoomId));
+
+		scheduleRepository.updateTeacher(List.of(group.getId()), teacherId);
+		scheduleRepository.updateClassRoom(group.getId(), classRoomId);
+		scheduleRepository.checkOverlapConstraints();
+		eventPublisher.publishEvent(ScheduleChangedEvent.allSemesters());
+	}
+
+	/**
+	 * Same as {@link #syncGroup(Group)}, for all groups of a discipline after
+	 * its teacher changed.
+	 *
+	 * @param discipline the changed discipline
+	 * @throws InvalidScheduleException with a conflict for each overlap
+	 */
+	@Transactional
+	public void syncDiscipline(Discipline discipline) {
+		List<Long> groupIds = groupRepository.findIdsByDisciplineId(discipline.getId());
+
+		if (groupIds.isEmpty())
+			return;
+
+		UUID teacherId = teacherIdOf(discipline);
+
+		rejectConflicts(scheduleRepository.findGroupChangeConflicts(groupIds, teacherId, null));
+
+		scheduleRepository.updateTeacher(groupIds, teacherId);
+		scheduleRepository.checkOverlapConstraints();
+		eventPublisher.publishEvent(ScheduleChangedEvent.allSemesters());
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private List<Schedule> saveAll(List<Schedule> schedules) {
+		try {
+			List<Schedule> savedSchedules = scheduleRepository.saveAllAndFlush(attachGroups(schedules));
+			scheduleRepository.checkOverlapConstraints();
+			return savedSchedules;
+		} catch (DataIntegrityViolationException e) {
+			throw new InvalidScheduleException(
+					"Lessons overlap a lesson of the same teacher, class room or group saved in the meantime");
+		}
+	}
+
+	private static void rejectConflicts(List<GroupChangeConflict> overlaps) {
+		if (overlaps.isEmpty())
+			return;
+
+		List<ScheduleConflict> conflicts = overlaps.stream()
+				.map(overlap -> new ScheduleConflict(overlap.type(), "Lesson of group " + overlap.groupName() + " on "
+						+ overlap.dayOfWeek() + " at " + overlap.startTime() + " in semester with id:"
+						+ overlap.semesterId() + " would overlap the lesson with id:" + overlap.conflictingScheduleId()))
+				.toList();
+
+		throw new InvalidScheduleException(new ConflictReport(conflicts));
+	}
+
+	private static UUID teacherIdOf(Discipline discipline) {
+		User teacher = discipline.getTeacher();
+		return teacher != null ? teacher.getId() : null;
+	}
+
+	/**
+	 * Points new schedules to groups managed by the current transaction. When a
+	 * timetable is built outside a request, e.g. by a generation job, its
+	 * groups are detached and persisting a schedule would cascade to them.
+	 */
+	private List<Schedule> attachGroups(List<Schedule> schedules) {
+		for (Schedule schedule : schedules) {
+			if (schedule.getId() == null && !entityManager.contains(schedule.getGroup()))
+				schedule.setGroup(entityManager.getReference(Group.class, schedule.getGroup().getId()));
+		}
+
+		return schedules;
+	}
+
+}
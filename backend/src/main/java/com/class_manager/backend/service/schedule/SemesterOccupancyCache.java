@@ -0,0 +1,109 @@
+package com.class_manager.backend.service.schedule;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.class_manager.backend.repository.ScheduleRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps the {@link ScheduleOccupancyIndex} of each semester in memory for the
+ * read only queries on the occupancy, such as the feasible slots of a group.
+ *
+ * The index of a semester is loaded on the first access and evicted on every
+ * {@link ScheduleChangedEvent} of it, published when its schedules, or the
+ * teacher and class room of a group, change. The cached
+ * indexes are shared, so they must never be changed, callers that need to
+ * change one work on a {@link ScheduleOccupancyIndex#copy()}.
+ */
+@Component
+@RequiredArgsConstructor
+public class SemesterOccupancyCache {
+
+	private final ScheduleRepository scheduleRepository;
+
+	private final Map<Long, ScheduleOccupancyIndex> indexes = new ConcurrentHashMap<>();
+
+	// Incremented on every eviction, an index loaded across an eviction is not cached
+	private long version;
+
+	public ScheduleOccupancyIndex get(Long semesterId) {
+		ScheduleOccupancyIndex cached = indexes.get(semesterId);
+
+		if (cached != null)
+			return cached;
+
+		long loadedVersion = currentVersion();
+		ScheduleOccupancyIndex loaded = ScheduleOccupancyIndex.of(
+				scheduleRepository.findOccupiedSlotsBySemester(semesterId));
+
+		synchronized (this) {
+			if (version == loadedVersion)
+				indexes.put(semesterId, loaded);
+		}
+
+		return loaded;
+	}
+
+	@EventListener
+	public void onScheduleChanged(ScheduleChangedEvent event) {
+		if (event.semesterId() == null)
+			evictAll();
+		else
+			evict(event.semesterId());
+	}
+
+	/**
+	 * Evicts the index of a semester. When called inside a transaction, the
+	 * index is evicted again after the commit, so a read of the uncommitted
+	 * state is never kept.
+	 */
+	public void evict(Long semesterId) {
+		doEvict(semesterId);
+		afterCommit(() -> doEvict(semesterId));
+	}
+
+	/**
+	 * Evicts the indexes of every semester, used when the teacher or the class
+	 * room of existing lessons change.
+	 */
+	public void evictAll() {
+		doEvictAll();
+		afterCommit(this::doEvictAll);
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private synchronized long currentVersion() {
+		return version;
+	}
+
+	private synchronized void doEvict(Long semesterId) {
+		version++;
+		indexes.remove(semesterId);
+	}
+
+	private synchronized void doEvictAll() {
+		version++;
+		indexes.clear();
+	}
+
+	private void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive())
+			return;
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+
+}
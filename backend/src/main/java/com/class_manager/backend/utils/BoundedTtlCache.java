@@ -0,0 +1,106 @@
+package com.class_manager.backend.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A small in-memory cache whose entries expire some time after being loaded.
+ * Beyond its maximum size, the least recently used entry is dropped.
+ *
+ * Values are loaded outside the lock, so two threads may load the same key at
+ * the same time. A value loaded across an invalidation is returned but not
+ * cached, so an invalidation is never undone by a slow load.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class BoundedTtlCache<K, V> {
+
+	/**
+	 * @param size   the number of cached entries
+	 * @param hits   the lookups answered from the cache
+	 * @param misses the lookups that called the loader
+	 */
+	public record Stats(int size, long hits, long misses) {
+	}
+
+	private final long ttlNanos;
+	private final Map<K, Entry<V>> entries;
+
+	// Incremented on every invalidation
+	private long version;
+	private long hits;
+	private long misses;
+
+	public BoundedTtlCache(int maxSize, long ttl, TimeUnit unit) {
+		this.ttlNanos = unit.toNanos(ttl);
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached value of a key, loading it when absent or expired. A
+	 * {@code null} loaded value is returned but not cached.
+	 *
+	 * @param key    the key
+	 * @param loader loads the value of the key
+	 * @return the value, or {@code null} if the loader returned it
+	 */
+	public V get(K key, Function<? super K, ? extends V> loader) {
+		long loadedVersion;
+
+		synchronized (this) {
+			Entry<V> entry = entries.get(key);
+
+			if (entry != null && System.nanoTime() - entry.loadedAt() < ttlNanos) {
+				hits++;
+				return entry.value();
+			}
+
+			misses++;
+			loadedVersion = version;
+		}
+
+		long loadedAt = System.nanoTime();
+		V value = loader.apply(key);
+
+		if (value != null) {
+			synchronized (this) {
+				if (version == loadedVersion)
+					entries.put(key, new Entry<>(value, loadedAt));
+			}
+		}
+
+		return value;
+	}
+
+	public synchronized void invalidate(K key) {
+		version++;
+		entries.remove(key);
+	}
+
+	public synchronized void invalidateIf(Predicate<? super V> predicate) {
+		version++;
+		entries.values().removeIf(entry -> predicate.test(entry.value()));
+	}
+
+	public synchronized void invalidateAll() {
+		version++;
+		entries.clear();
+	}
+
+	public synchronized Stats stats() {
+		return new Stats(entries.size(), hits, misses);
+	}
+
+	private record Entry<V>(V value, long loadedAt) {
+	}
+
+}
@@ -8,15 +8,18 @@ import org.springframework.security.oauth2.jwt.JwtEncoder;
 import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
 import org.springframework.stereotype.Component;
 
+import com.class_manager.backend.config.security.JwtKeys;
 import com.class_manager.backend.model.User;
 
 @Component
 public class JwtUtils {
 
 	private final JwtEncoder jwtEncoder;
+	private final JwtKeys jwtKeys;
 
-	public JwtUtils(JwtEncoder jwtEncoder) {
+	public JwtUtils(JwtEncoder jwtEncoder, JwtKeys jwtKeys) {
 		this.jwtEncoder = jwtEncoder;
+		this.jwtKeys = jwtKeys;
 	}
 
 	private JwtClaimsSet buildJwtTokenClaims(String issuer, String subject, Instant expiresAt, String name, String surname,
@@ -40,7 +43,7 @@ public class JwtUtils {
 				.collect(Collectors.joining(" "));
 
 		var tokenClaims = buildJwtTokenClaims(issuer, subject, expiresAt, user.getName(), user.getSurname(), scope);
-		return jwtEncoder.encode(JwtEncoderParameters.from(tokenClaims)).getTokenValue();
+		return jwtEncoder.encode(JwtEncoderParameters.from(jwtKeys.header(), tokenClaims)).getTokenValue();
 	}
 
 }
@@ -0,0 +1,32 @@
+package com.class_manager.backend.utils;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.class_manager.backend.model.TimeSlot;
+
+public class TimeSlotUtils {
+
+	/**
+	 * Calculates all available time slots within a given TimeSlot configuration.
+	 *
+	 * @param timeSlot the configuration of available start/end times and lesson
+	 *                 duration
+	 * @return list of available starting times
+	 */
+	public static List<LocalTime> calculateAvailableTimeSlots(TimeSlot timeSlot) {
+		List<LocalTime> availableSlots = new ArrayList<>();
+		LocalTime current = timeSlot.getStartTime();
+
+		int duration = timeSlot.getLessonDurationMinutes();
+
+		while (!current.plusMinutes(duration).isAfter(timeSlot.getEndTime())) {
+			availableSlots.add(current);
+			current = current.plusMinutes(duration);
+		}
+
+		return availableSlots;
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.class_manager.backend.benchmark;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.class_manager.backend.dto.model.schedule.OccupiedSlot;
+import com.class_manager.backend.model.Group;
+import com.class_manager.backend.service.schedule.Cohort;
+import com.class_manager.backend.service.schedule.ScheduleOccupancyIndex;
+
+/**
+ * Conflict validation against the in-memory occupancy of a semester: building
+ * the index from the persisted lessons and checking candidate lessons against
+ * it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConflictValidationBenchmark {
+
+	private static final int CANDIDATES = 1024;
+
+	@Param({ "1000", "10000" })
+	private int occupiedLessons;
+
+	private List<OccupiedSlot> slots;
+	private ScheduleOccupancyIndex occupancy;
+	private Group[] candidateGroups;
+	private DayOfWeek[] candidateDays;
+	private LocalTime[] candidateStarts;
+	private int next;
+
+	@Setup
+	public void setup() {
+		SyntheticSchedulingData data = SyntheticSchedulingData.generate(
+				new SyntheticSchedulingData.Scale(20, 40, 300, 120), 42L);
+
+		slots = data.randomOccupiedSlots(occupiedLessons, 7L);
+		occupancy = ScheduleOccupancyIndex.of(slots);
+
+		List<Group> groups = data.courses().stream().flatMap(course -> course.groups().stream()).toList();
+		Random random = new Random(13L);
+		candidateGroups = new Group[CANDIDATES];
+		candidateDays = new DayOfWeek[CANDIDATES];
+		candidateStarts = new LocalTime[CANDIDATES];
+
+		for (int i = 0; i < CANDIDATES; i++) {
+			candidateGroups[i] = groups.get(random.nextInt(groups.size()));
+			candidateDays[i] = DayOfWeek.of(1 + random.nextInt(5));
+			candidateStarts[i] = LocalTime.of(7, 0).plusMinutes(50L * random.nextInt(19));
+		}
+	}
+
+	@Benchmark
+	public boolean isAvailable() {
+		int i = next++ & (CANDIDATES - 1);
+		Group group = candidateGroups[i];
+
+		return occupancy.isAvailable(group.getDiscipline().getTeacher().getId(), group.getClassRoom().getId(),
+				group.getId(), Cohort.of(group), candidateDays[i], candidateStarts[i], candidateStarts[i].plusMinutes(50));
+	}
+
+	@Benchmark
+	public ScheduleOccupancyIndex buildIndex() {
+		return ScheduleOccupancyIndex.of(slots);
+	}
+
+	@Benchmark
+	public ScheduleOccupancyIndex copyIndex() {
+		return occupancy.copy();
+	}
+
+}
@@ -0,0 +1,104 @@
+package com.class_manager.backend.benchmark;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.class_manager.backend.enums.GenerationEngine;
+import com.class_manager.backend.model.Group;
+import com.class_manager.backend.service.schedule.BacktrackingScheduleGenerator;
+import com.class_manager.backend.service.schedule.GenerationContext;
+import com.class_manager.backend.service.schedule.GenerationMonitor;
+import com.class_manager.backend.service.schedule.GenerationResult;
+import com.class_manager.backend.service.schedule.GreedyScheduleGenerator;
+import com.class_manager.backend.service.schedule.ScheduleGenerator;
+import com.class_manager.backend.service.schedule.ScheduleOccupancyIndex;
+import com.class_manager.backend.utils.TimeSlotUtils;
+
+/**
+ * End to end generation of the timetable of one course, over an occupancy
+ * already filled with the lessons of the other courses of the semester. The
+ * greedy engine places at most one lesson per slot of the course grid (60
+ * slots here), so the groups per course are kept below that.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmark {
+
+	// Keeps the backtracking search from dominating the run on infeasible inputs
+	private static final long TIME_BUDGET_MILLIS = 500;
+
+	@Param({ "GREEDY", "BACKTRACKING" })
+	private GenerationEngine engine;
+
+	@Param({ "5", "12" })
+	private int groupsPerCourse;
+
+	@Param({ "0", "2000" })
+	private int occupiedLessons;
+
+	private ScheduleGenerator generator;
+	private GenerationContext baseContext;
+	private GenerationContext context;
+	private long seed;
+
+	@Setup(Level.Trial)
+	public void setupTrial() {
+		SyntheticSchedulingData data = SyntheticSchedulingData.generate(
+				new SyntheticSchedulingData.Scale(10, groupsPerCourse, 120, 60), 42L);
+		SyntheticSchedulingData.CourseData course = data.courses().get(0);
+
+		List<Group> groups = new ArrayList<>(course.groups());
+		groups.sort(Comparator.<Group>comparingInt(group -> -group.getDiscipline().getCredits())
+				.thenComparing(Group::getId));
+
+		List<DayOfWeek> days = new ArrayList<>(course.timeSlot().getDaysOfWeek());
+		days.sort(Comparator.naturalOrder());
+
+		// Lessons of the other courses only, the generated course starts empty
+		ScheduleOccupancyIndex occupancy = ScheduleOccupancyIndex.of(data.randomOccupiedSlots(occupiedLessons, 7L)
+				.stream()
+				.filter(slot -> groups.stream().noneMatch(group -> group.getId().equals(slot.groupId())))
+				.toList());
+
+		generator = engine == GenerationEngine.GREEDY
+				? new GreedyScheduleGenerator()
+				: new BacktrackingScheduleGenerator(TIME_BUDGET_MILLIS);
+
+		baseContext = new GenerationContext(data.semester(), course.timeSlot(), groups, days,
+				TimeSlotUtils.calculateAvailableTimeSlots(course.timeSlot()), occupancy, new Random(), null,
+				new GenerationMonitor(), null);
+	}
+
+	@Setup(Level.Invocation)
+	public void setupInvocation() {
+		// Every invocation starts from the same occupancy, with a different seed
+		context = baseContext.withAttempt(new Random(seed++), baseContext.occupancy().copy());
+	}
+
+	@Benchmark
+	public GenerationResult generate() {
+		return generator.generate(context);
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.class_manager.backend.benchmark;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import com.class_manager.backend.config.security.JwtKeys;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+
+/**
+ * Signing and verifying access tokens with each supported algorithm, through
+ * the same encoder and decoder built by the security configuration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtSigningBenchmark {
+
+	@Param({ "RS256", "ES256" })
+	private String algorithm;
+
+	private JwtKeys jwtKeys;
+	private JwtEncoder encoder;
+	private JwtDecoder decoder;
+	private JwtEncoderParameters parameters;
+	private String token;
+
+	@Setup
+	public void setup() throws JOSEException {
+		JWSAlgorithm jwsAlgorithm = JWSAlgorithm.parse(algorithm);
+		JWK signingKey = JWSAlgorithm.ES256.equals(jwsAlgorithm)
+				? new ECKeyGenerator(Curve.P_256).keyIDFromThumbprint(true).generate()
+				: new RSAKeyGenerator(2048).keyIDFromThumbprint(true).generate();
+
+		jwtKeys = JwtKeys.of(jwsAlgorithm, signingKey, List.of());
+		encoder = jwtKeys.encoder();
+		decoder = jwtKeys.decoder();
+
+		Instant now = Instant.now();
+		JwtClaimsSet claims = JwtClaimsSet.builder()
+				.issuer("http://localhost:8080")
+				.subject(UUID.randomUUID().toString())
+				.issuedAt(now)
+				.expiresAt(now.plus(1, ChronoUnit.HOURS))
+				.claim("name", "Benchmark Teacher")
+				.claim("scope", "TEACHER COORDINATOR")
+				.build();
+
+		parameters = JwtEncoderParameters.from(jwtKeys.header(), claims);
+		token = encoder.encode(parameters).getTokenValue();
+	}
+
+	@Benchmark
+	public String sign() {
+		return encoder.encode(parameters).getTokenValue();
+	}
+
+	@Benchmark
+	public Jwt verify() {
+		return decoder.decode(token);
+	}
+
+}
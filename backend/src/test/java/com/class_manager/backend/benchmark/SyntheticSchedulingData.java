@@ -0,0 +1,148 @@
+package com.class_manager.backend.benchmark;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import com.class_manager.backend.dto.model.schedule.OccupiedSlot;
+import com.class_manager.backend.enums.SemesterStatus;
+import com.class_manager.backend.model.ClassRoom;
+import com.class_manager.backend.model.Course;
+import com.class_manager.backend.model.Discipline;
+import com.class_manager.backend.model.Group;
+import com.class_manager.backend.model.Semester;
+import com.class_manager.backend.model.TimeSlot;
+import com.class_manager.backend.model.User;
+
+/**
+ * Builds an in-memory institution for the benchmarks: courses with their
+ * TimeSlot, disciplines, groups, teachers and class rooms, with ids assigned
+ * as if they came from the database. The same scale and seed always build
+ * the same data.
+ */
+public final class SyntheticSchedulingData {
+
+	public record Scale(int courses, int groupsPerCourse, int teachers, int classRooms) {
+	}
+
+	public record CourseData(Course course, TimeSlot timeSlot, List<Group> groups) {
+	}
+
+	private final Semester semester;
+	private final List<User> teachers = new ArrayList<>();
+	private final List<ClassRoom> classRooms = new ArrayList<>();
+	private final List<CourseData> courses = new ArrayList<>();
+
+	private SyntheticSchedulingData(Scale scale, long seed) {
+		Random random = new Random(seed);
+
+		this.semester = new Semester();
+		semester.setId(1L);
+		semester.setName("SEMESTRE-2025/1");
+		semester.setYear(2025);
+		semester.setNumber(1);
+		semester.setStartDate(LocalDate.of(2025, 1, 1));
+		semester.setEndDate(LocalDate.of(2025, 6, 30));
+		semester.setStatus(SemesterStatus.ACTIVE);
+
+		for (int t = 0; t < scale.teachers(); t++) {
+			User teacher = new User();
+			teacher.setId(new UUID(0L, t + 1L));
+			teacher.setEmail("teacher" + t + "@class-manager.com");
+			teacher.setName("Teacher");
+			teacher.setSurname(String.valueOf(t));
+			teachers.add(teacher);
+		}
+
+		for (int r = 0; r < scale.classRooms(); r++) {
+			ClassRoom classRoom = new ClassRoom();
+			classRoom.setId(r + 1L);
+			classRoom.setName("Room " + r);
+			classRoom.setAbbreviation("R" + r);
+			classRoom.setLocation("Block " + (r % 4));
+			classRooms.add(classRoom);
+		}
+
+		long disciplineId = 1;
+		long groupId = 1;
+
+		for (int c = 0; c < scale.courses(); c++) {
+			Course course = new Course();
+			course.setId(c + 1L);
+			course.setName("Course " + c);
+			course.setAbbreviation("C" + c);
+
+			TimeSlot timeSlot = new TimeSlot();
+			timeSlot.setId(c + 1L);
+			timeSlot.setCourse(course);
+			timeSlot.setDaysOfWeek(EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+			timeSlot.setLessonDurationMinutes(50);
+			// Day and evening courses, with 12 and 5 lessons a day
+			timeSlot.setStartTime(c % 4 == 3 ? LocalTime.of(19, 0) : LocalTime.of(7, 0));
+			timeSlot.setEndTime(c % 4 == 3 ? LocalTime.of(23, 10) : LocalTime.of(17, 0));
+
+			List<Group> groups = new ArrayList<>();
+
+			for (int g = 0; g < scale.groupsPerCourse(); g++) {
+				Discipline discipline = new Discipline();
+				discipline.setId(disciplineId++);
+				discipline.setName("Discipline " + c + "." + g);
+				discipline.setAbbreviation("D" + c + "." + g);
+				discipline.setCredits(2 + random.nextInt(3));
+				discipline.setCourse(course);
+				discipline.setTeacher(teachers.get(random.nextInt(teachers.size())));
+
+				Group group = new Group();
+				group.setId(groupId++);
+				group.setName("Group " + c + "." + g);
+				group.setAbbreviation("G" + c + "." + g);
+				group.setSemesterOfCourse(1 + g % 8);
+				group.setDiscipline(discipline);
+				group.setClassRoom(classRooms.get(random.nextInt(classRooms.size())));
+				groups.add(group);
+			}
+
+			courses.add(new CourseData(course, timeSlot, groups));
+		}
+	}
+
+	public static SyntheticSchedulingData generate(Scale scale, long seed) {
+		return new SyntheticSchedulingData(scale, seed);
+	}
+
+	public Semester semester() {
+		return semester;
+	}
+
+	public List<CourseData> courses() {
+		return courses;
+	}
+
+	/**
+	 * Random lessons of the teachers, class rooms and groups of the data, to
+	 * fill an occupancy. They may overlap each other, as the occupancy does not
+	 * care.
+	 */
+	public List<OccupiedSlot> randomOccupiedSlots(int count, long seed) {
+		Random random = new Random(seed);
+		List<Group> groups = courses.stream().flatMap(course -> course.groups().stream()).toList();
+		List<OccupiedSlot> slots = new ArrayList<>(count);
+
+		for (int i = 0; i < count; i++) {
+			Group group = groups.get(random.nextInt(groups.size()));
+			LocalTime start = LocalTime.of(7, 0).plusMinutes(50L * random.nextInt(19));
+
+			slots.add(new OccupiedSlot((long) i + 1, group.getId(), group.getDiscipline().getTeacher().getId(),
+					group.getClassRoom().getId(), group.getDiscipline().getCourse().getId(), group.getSemesterOfCourse(),
+					DayOfWeek.of(1 + random.nextInt(5)), start, start.plusMinutes(50)));
+		}
+
+		return slots;
+	}
+
+}
@@ -0,0 +1,52 @@
+package com.class_manager.backend.benchmark;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.class_manager.backend.model.TimeSlot;
+import com.class_manager.backend.utils.TimeSlotUtils;
+
+/**
+ * Cost of expanding a TimeSlot configuration into the lesson start times of a
+ * day.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeSlotBenchmark {
+
+	@Param({ "30", "50", "100" })
+	private int lessonDurationMinutes;
+
+	private TimeSlot timeSlot;
+
+	@Setup
+	public void setup() {
+		timeSlot = new TimeSlot();
+		timeSlot.setStartTime(LocalTime.of(7, 0));
+		timeSlot.setEndTime(LocalTime.of(23, 0));
+		timeSlot.setLessonDurationMinutes(lessonDurationMinutes);
+	}
+
+	@Benchmark
+	public List<LocalTime> calculateAvailableTimeSlots() {
+		return TimeSlotUtils.calculateAvailableTimeSlots(timeSlot);
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.class_manager.backend.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+class CachingJwtDecoderTest {
+
+	private final JwtDecoder delegate = mock(JwtDecoder.class);
+	private final CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, 300);
+
+	@Test
+	void sameTokenIsDecodedByTheDelegateOnce() {
+		Jwt jwt = jwt("user-1", Instant.now().plusSeconds(300));
+		when(delegate.decode("token")).thenReturn(jwt);
+
+		assertThat(decoder.decode("token")).isSameAs(jwt);
+		assertThat(decoder.decode("token")).isSameAs(jwt);
+		verify(delegate).decode("token");
+	}
+
+	@Test
+	void expiredTokenIsDroppedAndReportedByTheDelegate() {
+		when(delegate.decode("token"))
+				.thenReturn(jwt("user-1", Instant.now().minusSeconds(1)))
+				.thenThrow(new JwtException("Jwt expired"));
+
+		assertThatThrownBy(() -> decoder.decode("token"))
+				.isInstanceOf(JwtException.class)
+				.hasMessage("Jwt expired");
+		verify(delegate, times(2)).decode("token");
+		assertThat(decoder.stats().size()).isZero();
+	}
+
+	@Test
+	void tokensOfAChangedUserAreDecodedAgain() {
+		when(delegate.decode("token-1")).thenReturn(jwt("user-1", Instant.now().plusSeconds(300)));
+		when(delegate.decode("token-2")).thenReturn(jwt("user-2", Instant.now().plusSeconds(300)));
+		decoder.decode("token-1");
+		decoder.decode("token-2");
+
+		decoder.invalidateSubject("user-1");
+		decoder.decode("token-1");
+		decoder.decode("token-2");
+
+		verify(delegate, times(2)).decode("token-1");
+		verify(delegate).decode("token-2");
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private static Jwt jwt(String subject, Instant expiresAt) {
+		return Jwt.withTokenValue("token")
+				.header("alg", "RS256")
+				.subject(subject)
+				.issuedAt(expiresAt.minusSeconds(600))
+				.expiresAt(expiresAt)
+				.build();
+	}
+
+}
@@ -0,0 +1,126 @@
+package com.class_manager.backend.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import com.class_manager.backend.exceptions.AppPropertiesConfigException;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+class JwtKeysTest {
+
+	private static final RSAKey CURRENT_KEY = rsaKey();
+	private static final RSAKey PREVIOUS_KEY = rsaKey();
+	private static final RSAKey UNKNOWN_KEY = rsaKey();
+	private static final ECKey EC_KEY = ecKey();
+
+	@Test
+	void verifiesTokensOfTheCurrentKey() {
+		JwtKeys keys = JwtKeys.of(JWSAlgorithm.RS256, CURRENT_KEY, List.of());
+
+		String token = encode(keys);
+
+		assertThat(keys.decoder().decode(token).getSubject()).isEqualTo("user");
+		assertThat(keys.decoder().decode(token).getHeaders()).containsEntry("kid", CURRENT_KEY.getKeyID());
+	}
+
+	@Test
+	void verifiesTokensOfAPreviousKey() {
+		String token = encode(JwtKeys.of(JWSAlgorithm.RS256, PREVIOUS_KEY, List.of()));
+		JwtKeys rotated = JwtKeys.of(JWSAlgorithm.RS256, CURRENT_KEY, List.of(PREVIOUS_KEY.toPublicJWK()));
+
+		assertThat(rotated.decoder().decode(token).getSubject()).isEqualTo("user");
+	}
+
+	@Test
+	void rejectsTokensOfAnUnknownKey() {
+		String token = encode(JwtKeys.of(JWSAlgorithm.RS256, UNKNOWN_KEY, List.of()));
+		JwtKeys keys = JwtKeys.of(JWSAlgorithm.RS256, CURRENT_KEY, List.of(PREVIOUS_KEY.toPublicJWK()));
+
+		assertThatThrownBy(() -> keys.decoder().decode(token)).isInstanceOf(JwtException.class);
+	}
+
+	@Test
+	void verifiesTokensSignedWithoutKeyId() throws JOSEException {
+		// Tokens issued before the kid header was added
+		SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), new JWTClaimsSet.Builder()
+				.subject("user")
+				.issueTime(new Date())
+				.expirationTime(Date.from(Instant.now().plusSeconds(300)))
+				.build());
+		jwt.sign(new RSASSASigner(CURRENT_KEY));
+
+		JwtKeys keys = JwtKeys.of(JWSAlgorithm.RS256, CURRENT_KEY, List.of(PREVIOUS_KEY.toPublicJWK()));
+
+		assertThat(keys.decoder().decode(jwt.serialize()).getSubject()).isEqualTo("user");
+	}
+
+	@Test
+	void signsAndVerifiesWithAnEcKey() {
+		JwtKeys keys = JwtKeys.of(JWSAlgorithm.ES256, EC_KEY, List.of());
+
+		assertThat(keys.decoder().decode(encode(keys)).getHeaders()).containsEntry("alg", JWSAlgorithm.ES256.getName());
+	}
+
+	@Test
+	void rejectsAKeyOfAnotherAlgorithm() {
+		assertThatThrownBy(() -> JwtKeys.of(JWSAlgorithm.ES256, CURRENT_KEY, List.of()))
+				.isInstanceOf(AppPropertiesConfigException.class);
+		assertThatThrownBy(() -> JwtKeys.of(JWSAlgorithm.RS256, EC_KEY, List.of()))
+				.isInstanceOf(AppPropertiesConfigException.class);
+	}
+
+	@Test
+	void rejectsAnUnsupportedAlgorithm() {
+		assertThatThrownBy(() -> JwtKeys.of(JWSAlgorithm.HS256, CURRENT_KEY, List.of()))
+				.isInstanceOf(AppPropertiesConfigException.class);
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private static String encode(JwtKeys keys) {
+		Instant now = Instant.now();
+		JwtClaimsSet claims = JwtClaimsSet.builder()
+				.subject("user")
+				.issuedAt(now)
+				.expiresAt(now.plusSeconds(300))
+				.build();
+
+		return keys.encoder().encode(JwtEncoderParameters.from(keys.header(), claims)).getTokenValue();
+	}
+
+	private static RSAKey rsaKey() {
+		try {
+			return new RSAKeyGenerator(2048).keyIDFromThumbprint(true).generate();
+		} catch (JOSEException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static ECKey ecKey() {
+		try {
+			return new ECKeyGenerator(Curve.P_256).keyIDFromThumbprint(true).generate();
+		} catch (JOSEException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
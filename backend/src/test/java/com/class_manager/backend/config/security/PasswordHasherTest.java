@@ -0,0 +1,86 @@
+package com.class_manager.backend.config.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class PasswordHasherTest {
+
+	@Test
+	void rehashIsNeededOnlyForABcryptHashOfAnotherCost() {
+		PasswordHasher hasher = new PasswordHasher(new BCryptPasswordEncoder(5), 5, 1, 1);
+
+		try {
+			String hash = hasher.encode("secret");
+
+			assertThat(hasher.matches("secret", hash)).isTrue();
+			assertThat(hasher.needsRehash(hash)).isFalse();
+			assertThat(hasher.needsRehash(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+			assertThat(hasher.needsRehash(null)).isFalse();
+			assertThat(hasher.needsRehash("{noop}secret")).isFalse();
+		} finally {
+			hasher.shutdown();
+		}
+	}
+
+	@Test
+	void callBeyondTheQueueCapacityIsRejected() throws Exception {
+		CountDownLatch hashing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		BCryptPasswordEncoder encoder = mock(BCryptPasswordEncoder.class);
+		when(encoder.encode(any())).thenAnswer(invocation -> {
+			hashing.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return "hash";
+		});
+		PasswordHasher hasher = new PasswordHasher(encoder, 10, 1, 1);
+
+		try {
+			CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("first"));
+			assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+			Thread queued = new Thread(() -> hasher.encode("second"));
+			queued.start();
+
+			assertThat(awaitWaiting(queued)).isTrue();
+			assertThatThrownBy(() -> hasher.encode("third"))
+					.isInstanceOf(RejectedExecutionException.class)
+					.hasMessage("Too many logins in progress, try again later");
+
+			release.countDown();
+			assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+			queued.join(5000);
+			assertThat(queued.isAlive()).isFalse();
+		} finally {
+			release.countDown();
+			hasher.shutdown();
+		}
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	/**
+	 * Waits for the thread to block on the result of its call, once the call
+	 * took the only place in the queue.
+	 */
+	private static boolean awaitWaiting(Thread thread) throws InterruptedException {
+		for (int attempt = 0; attempt < 500; attempt++) {
+			if (thread.getState() == Thread.State.WAITING)
+				return true;
+
+			Thread.sleep(10);
+		}
+
+		return false;
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.class_manager.backend.config.security.validators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import com.class_manager.backend.config.security.PrincipalCache;
+import com.class_manager.backend.config.security.PrincipalCache.CachedPrincipal;
+import com.class_manager.backend.enums.RoleName;
+
+class SubjectValidatorTest {
+
+	private static final UUID USER_ID = new UUID(0L, 1L);
+
+	private final PrincipalCache principalCache = mock(PrincipalCache.class);
+	private final SubjectValidator validator = new SubjectValidator(principalCache);
+
+	@Test
+	void acceptsActiveUserHoldingEveryRoleOfTheToken() {
+		when(principalCache.get(USER_ID))
+				.thenReturn(new CachedPrincipal(true, Set.of(RoleName.TEACHER, RoleName.COORDINATOR)));
+
+		assertThat(validator.validate(token(USER_ID.toString(), "TEACHER COORDINATOR")).hasErrors()).isFalse();
+	}
+
+	@Test
+	void rejectsTokenOfUserWhoLostARole() {
+		when(principalCache.get(USER_ID)).thenReturn(new CachedPrincipal(true, Set.of(RoleName.TEACHER)));
+
+		assertThat(validator.validate(token(USER_ID.toString(), "TEACHER COORDINATOR")).hasErrors()).isTrue();
+	}
+
+	@Test
+	void rejectsInactiveOrUnknownUser() {
+		when(principalCache.get(USER_ID)).thenReturn(new CachedPrincipal(false, Set.of(RoleName.TEACHER)));
+
+		assertThat(validator.validate(token(USER_ID.toString(), "TEACHER")).hasErrors()).isTrue();
+		assertThat(validator.validate(token(new UUID(0L, 2L).toString(), "TEACHER")).hasErrors()).isTrue();
+	}
+
+	@Test
+	void rejectsMalformedSubjectWithoutLookingItUp() {
+		assertThat(validator.validate(token("not-a-uuid", "TEACHER")).hasErrors()).isTrue();
+		verify(principalCache, never()).get(any());
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private static Jwt token(String subject, String scope) {
+		Instant now = Instant.now();
+
+		return Jwt.withTokenValue("token")
+				.header("alg", "RS256")
+				.subject(subject)
+				.claim("scope", scope)
+				.issuedAt(now)
+				.expiresAt(now.plusSeconds(300))
+				.build();
+	}
+
+}
@@ -0,0 +1,67 @@
+package com.class_manager.backend.service;
+
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.lesson;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.semester;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.class_manager.backend.dto.model.schedule.GenerateSchedulesDto;
+import com.class_manager.backend.dto.model.schedule.GenerateSchedulesResponseDto;
+import com.class_manager.backend.enums.GenerationJobStatus;
+import com.class_manager.backend.model.Schedule;
+import com.class_manager.backend.service.schedule.GenerationMonitor;
+
+class ScheduleGenerationJobServiceTest {
+
+	private final ScheduleService scheduleService = mock(ScheduleService.class);
+	private final ScheduleGenerationJobService jobService = new ScheduleGenerationJobService(scheduleService, 1, 1);
+
+	@AfterEach
+	void shutdown() {
+		jobService.shutdown();
+	}
+
+	@Test
+	void resultHoldsTheSchedulesSavedByTheJob() throws InterruptedException {
+		GenerateSchedulesDto request = new GenerateSchedulesDto(1L, 1L, null, null, null, 42L, null);
+		Schedule saved = lesson(10L, null, semester(1), DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(8, 50));
+		Schedule later = lesson(11L, null, semester(1), DayOfWeek.TUESDAY, LocalTime.of(8, 0), LocalTime.of(8, 50));
+		when(scheduleService.generateSchedulesForCourseAndSemester(eq(request), any(GenerationMonitor.class)))
+				.thenReturn(new GenerateSchedulesResponseDto(List.of(saved), List.of(), 42L, true));
+		when(scheduleService.findAll(anyLong(), anyLong())).thenReturn(List.of(later));
+
+		UUID jobId = jobService.submit(request).jobId();
+		awaitCompletion(jobId);
+
+		GenerateSchedulesResponseDto result = jobService.findResult(jobId);
+
+		assertThat(result.generatedSchedules()).containsExactly(saved);
+		assertThat(result.seed()).isEqualTo(42L);
+		verify(scheduleService, never()).findAll(anyLong(), anyLong());
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private void awaitCompletion(UUID jobId) throws InterruptedException {
+		for (int i = 0; i < 500 && jobService.findById(jobId).status() != GenerationJobStatus.COMPLETED; i++) {
+			Thread.sleep(10);
+		}
+
+		assertThat(jobService.findById(jobId).status()).isEqualTo(GenerationJobStatus.COMPLETED);
+	}
+
+}
@@ -0,0 +1,228 @@
+package com.class_manager.backend.service;
+
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.classRoom;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.course;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.group;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.lesson;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.semester;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.teacher;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.timeSlot;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.class_manager.backend.dto.model.schedule.CloneSchedulesDto;
+import com.class_manager.backend.dto.model.schedule.CloneSchedulesResponseDto;
+import com.class_manager.backend.dto.model.schedule.ConflictReport;
+import com.class_manager.backend.dto.model.schedule.OccupiedSlot;
+import com.class_manager.backend.dto.model.schedule.ScheduleBatchDto;
+import com.class_manager.backend.dto.model.schedule.ScheduleCloneConflict;
+import com.class_manager.backend.dto.model.schedule.ScheduleConflict;
+import com.class_manager.backend.dto.model.schedule.ScheduleDto;
+import com.class_manager.backend.enums.ConflictType;
+import com.class_manager.backend.exceptions.InvalidScheduleException;
+import com.class_manager.backend.model.Course;
+import com.class_manager.backend.model.Group;
+import com.class_manager.backend.model.Schedule;
+import com.class_manager.backend.model.Semester;
+import com.class_manager.backend.model.User;
+import com.class_manager.backend.repository.GroupRepository;
+import com.class_manager.backend.repository.ScheduleRepository;
+import com.class_manager.backend.repository.TimeSlotRepository;
+import com.class_manager.backend.service.schedule.LocalSearchImprover;
+import com.class_manager.backend.service.schedule.ScheduleChangedEvent;
+import com.class_manager.backend.service.schedule.ScheduleGenerationRunner;
+import com.class_manager.backend.service.schedule.ScheduleLocks;
+import com.class_manager.backend.service.schedule.ScheduleWriter;
+import com.class_manager.backend.service.schedule.SemesterOccupancyCache;
+
+class ScheduleServiceTest {
+
+	private static final LocalTime EIGHT = LocalTime.of(8, 0);
+	private static final LocalTime EIGHT_FIFTY = LocalTime.of(8, 50);
+
+	private final ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+	private final GroupRepository groupRepository = mock(GroupRepository.class);
+	private final TimeSlotRepository timeSlotRepository = mock(TimeSlotRepository.class);
+	private final SemesterService semesterService = mock(SemesterService.class);
+	private final ScheduleWriter scheduleWriter = mock(ScheduleWriter.class);
+	private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+
+	private final ScheduleService scheduleService = new ScheduleService(scheduleRepository, groupRepository,
+			timeSlotRepository, semesterService, List.of(), mock(ScheduleGenerationRunner.class),
+			mock(LocalSearchImprover.class), mock(SemesterOccupancyCache.class), scheduleWriter,
+			mock(ScheduleLocks.class), eventPublisher);
+
+	private final Semester semester = semester(1);
+	private final Course course = course(1);
+	private final User teacher = teacher(1);
+	private final Group group = group(1, course, teacher, classRoom(1), 1, 2);
+
+	@Test
+	void batchReportsTimeSlotAndOccupancyConflictsOfEveryLesson() {
+		Group otherGroup = group(2, course, teacher, classRoom(2), 3, 2);
+		givenBatchContext(List.of(group, otherGroup));
+		when(scheduleRepository.findOccupiedSlotsBySemester(1L)).thenReturn(List.of(
+				new OccupiedSlot(10L, 3L, teacher.getId(), 3L, 1L, 5, DayOfWeek.MONDAY, EIGHT, EIGHT_FIFTY)));
+
+		ScheduleBatchDto dto = new ScheduleBatchDto(1L, List.of(
+				created(group, DayOfWeek.SATURDAY, EIGHT),
+				created(otherGroup, DayOfWeek.MONDAY, EIGHT)), null, null);
+
+		assertThatThrownBy(() -> scheduleService.applyScheduleBatch(dto))
+				.isInstanceOfSatisfying(InvalidScheduleException.class, e -> assertThat(e.getReport().conflicts())
+						.extracting(ScheduleConflict::type)
+						.containsExactly(ConflictType.TIME_SLOT, ConflictType.TEACHER));
+		verify(scheduleWriter, never()).replace(any(), anyCollection(), anyList());
+	}
+
+	@Test
+	void batchChecksEachLessonAgainstTheOthersOfTheBatch() {
+		givenBatchContext(List.of(group));
+		when(scheduleRepository.findOccupiedSlotsBySemester(1L)).thenReturn(List.of());
+
+		ScheduleBatchDto dto = new ScheduleBatchDto(1L, List.of(
+				created(group, DayOfWeek.MONDAY, EIGHT),
+				created(group, DayOfWeek.MONDAY, LocalTime.of(8, 20))), null, null);
+
+		assertThatThrownBy(() -> scheduleService.applyScheduleBatch(dto))
+				.isInstanceOfSatisfying(InvalidScheduleException.class, e -> assertThat(e.getReport().conflicts())
+						.allSatisfy(conflict -> assertThat(conflict.message())
+								.startsWith("Lesson of group Group 1 on MONDAY at 08:20: "))
+						.extracting(ScheduleConflict::type)
+						.containsExactlyInAnyOrder(ConflictType.TEACHER, ConflictType.CLASS_ROOM, ConflictType.GROUP));
+	}
+
+	@Test
+	void batchAcceptsLessonOverlappingAnotherGroupOfItsCohort() {
+		givenBatchContext(List.of(group));
+		when(scheduleRepository.findOccupiedSlotsBySemester(1L)).thenReturn(List.of(
+				new OccupiedSlot(10L, 2L, teacher(2).getId(), 2L, 1L, 1, DayOfWeek.MONDAY, EIGHT, EIGHT_FIFTY)));
+
+		ScheduleBatchDto dto = new ScheduleBatchDto(1L, List.of(created(group, DayOfWeek.MONDAY, EIGHT)), null, null);
+
+		scheduleService.applyScheduleBatch(dto);
+
+		verify(scheduleWriter).replace(eq(1L), anyCollection(), anyList());
+	}
+
+	@Test
+	void batchReportsCourseWithoutTimeSlot() {
+		when(semesterService.findAndValidateSemesterById(1L)).thenReturn(semester);
+		when(groupRepository.findAllById(anyList())).thenReturn(List.of(group));
+		when(timeSlotRepository.findAllByCourseIdsWithDays(anyCollection())).thenReturn(List.of());
+
+		ScheduleBatchDto dto = new ScheduleBatchDto(1L, List.of(created(group, DayOfWeek.MONDAY, EIGHT)), null, null);
+
+		assertThatThrownBy(() -> scheduleService.applyScheduleBatch(dto))
+				.isInstanceOfSatisfying(InvalidScheduleException.class, e -> assertThat(e.getReport().conflicts())
+						.extracting(ScheduleConflict::type)
+						.containsExactly(ConflictType.TIME_SLOT));
+	}
+
+	@Test
+	void batchMovesLessonOverTheTimeItLeaves() {
+		Schedule existing = lesson(10L, group, semester, DayOfWeek.MONDAY, EIGHT, EIGHT_FIFTY);
+		givenBatchContext(List.of());
+		when(scheduleRepository.findAllById(anyCollection())).thenReturn(List.of(existing));
+		when(scheduleRepository.findOccupiedSlotsBySemester(1L)).thenReturn(List.of(
+				new OccupiedSlot(10L, 1L, teacher.getId(), 1L, 1L, 1, DayOfWeek.MONDAY, EIGHT, EIGHT_FIFTY)));
+		when(scheduleWriter.replace(eq(1L), anyCollection(), anyList())).thenReturn(List.of(existing));
+
+		ScheduleBatchDto dto = new ScheduleBatchDto(1L, null,
+				List.of(new ScheduleDto(DayOfWeek.MONDAY, LocalTime.of(8, 20), null, 1L, 10L)), null);
+
+		assertThat(scheduleService.applyScheduleBatch(dto)).containsExactly(existing);
+		assertThat(existing.getEndTime()).isEqualTo(LocalTime.of(9, 10));
+		verify(scheduleWriter).replace(1L, List.of(), List.of(existing));
+	}
+
+	@Test
+	void missingTeacherAndClassRoomAreReportedAsConflicts() {
+		Group orphan = group(2, course, null, null, 1, 2);
+		when(timeSlotRepository.findByCourseId(1L))
+				.thenReturn(Optional.of(timeSlot(course, LocalTime.of(7, 30), LocalTime.of(12, 0))));
+
+		ConflictReport report = scheduleService.findConflicts(
+				lesson(null, orphan, semester, DayOfWeek.MONDAY, EIGHT, EIGHT_FIFTY));
+
+		assertThat(report.conflicts())
+				.extracting(ScheduleConflict::type)
+				.containsExactly(ConflictType.TEACHER, ConflictType.CLASS_ROOM);
+	}
+
+	@Test
+	void lessonEndingAtMidnightIsProbedUpToTheEndOfItsDay() {
+		when(timeSlotRepository.findByCourseId(1L))
+				.thenReturn(Optional.of(timeSlot(course, LocalTime.of(7, 30), LocalTime.of(12, 0))));
+
+		scheduleService.findConflicts(lesson(null, group, semester, DayOfWeek.TUESDAY, LocalTime.of(23, 10),
+				LocalTime.MIDNIGHT));
+
+		verify(scheduleRepository).existsByTeacherAndTime(teacher.getId(), 1L, 1440 + 23 * 60 + 10, 2 * 1440, null);
+		verify(scheduleRepository).existsByGroupAndTime(1L, 1L, 1440 + 23 * 60 + 10, 2 * 1440, null);
+	}
+
+	@Test
+	void cloneReturnsTheLessonsLeftOut() {
+		ScheduleCloneConflict conflict = new ScheduleCloneConflict(10L, 1L, "Group 1", DayOfWeek.MONDAY, EIGHT,
+				EIGHT_FIFTY, 20L, ConflictType.TEACHER);
+		when(scheduleRepository.findCourseIdsBySemester(1L)).thenReturn(List.of(1L));
+		when(scheduleRepository.findCloneConflicts(1L, 2L, List.of(1L))).thenReturn(List.of(conflict));
+		when(scheduleRepository.cloneSchedules(1L, 2L, List.of(1L))).thenReturn(4);
+
+		CloneSchedulesResponseDto response = scheduleService.cloneSchedules(new CloneSchedulesDto(1L, 2L, null));
+
+		assertThat(response).isEqualTo(new CloneSchedulesResponseDto(4, List.of(1L), List.of(conflict)));
+		verify(scheduleRepository).deleteBySemesterAndCourses(2L, List.of(1L));
+		verify(eventPublisher).publishEvent(new ScheduleChangedEvent(2L));
+	}
+
+	@Test
+	void cloneWithoutCoursesWritesNothing() {
+		when(scheduleRepository.findCourseIdsBySemester(1L)).thenReturn(List.of());
+
+		CloneSchedulesResponseDto response = scheduleService.cloneSchedules(new CloneSchedulesDto(1L, 2L, List.of()));
+
+		assertThat(response.clonedSchedules()).isZero();
+		verify(scheduleRepository, never()).cloneSchedules(any(), any(), anyCollection());
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	void cloneIntoTheSourceSemesterIsRejected() {
+		assertThatThrownBy(() -> scheduleService.cloneSchedules(new CloneSchedulesDto(1L, 1L, null)))
+				.isInstanceOf(InvalidScheduleException.class);
+		verifyNoInteractions(scheduleRepository, semesterService);
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private void givenBatchContext(List<Group> groups) {
+		when(semesterService.findAndValidateSemesterById(1L)).thenReturn(semester);
+		when(groupRepository.findAllById(anyList())).thenReturn(groups);
+		when(timeSlotRepository.findAllByCourseIdsWithDays(anyCollection()))
+				.thenReturn(List.of(timeSlot(course, LocalTime.of(7, 30), LocalTime.of(12, 0))));
+	}
+
+	private static ScheduleDto created(Group group, DayOfWeek day, LocalTime start) {
+		return new ScheduleDto(day, start, group.getId(), 1L, null);
+	}
+
+}
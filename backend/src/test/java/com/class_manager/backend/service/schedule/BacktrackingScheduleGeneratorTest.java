@@ -0,0 +1,142 @@
+package com.class_manager.backend.service.schedule;
+
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.classRoom;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.course;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.group;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.lesson;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.semester;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.teacher;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.timeSlot;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.class_manager.backend.dto.model.schedule.ScheduleGenerationError;
+import com.class_manager.backend.model.Course;
+import com.class_manager.backend.model.Group;
+import com.class_manager.backend.model.Schedule;
+import com.class_manager.backend.model.Semester;
+import com.class_manager.backend.model.User;
+
+class BacktrackingScheduleGeneratorTest {
+
+	private static final LocalTime FIRST_SLOT = LocalTime.of(8, 0);
+	private static final LocalTime SECOND_SLOT = LocalTime.of(8, 50);
+
+	private final BacktrackingScheduleGenerator generator = new BacktrackingScheduleGenerator(1000);
+	private final Semester semester = semester(1);
+	private final Course course = course(1);
+
+	@Test
+	void placesTheMostConstrainedLessonFirst() {
+		User teacher = teacher(1);
+		Group flexible = group(1, course, teacher, classRoom(1), 1, 1);
+		Group constrained = group(2, course, teacher, classRoom(2), 2, 1);
+
+		// The first slot is taken for the class room of the second group only
+		ScheduleOccupancyIndex occupancy = new ScheduleOccupancyIndex();
+		occupancy.occupy(lesson(100L, group(100, course(2), teacher(2), constrained.getClassRoom(), 1, 1), semester,
+				DayOfWeek.MONDAY, FIRST_SLOT, SECOND_SLOT));
+
+		for (long seed = 0; seed < 20; seed++) {
+			ScheduleOccupancyIndex attempt = occupancy.copy();
+			GenerationResult result = generator.generate(context(List.of(flexible, constrained), attempt, seed));
+
+			assertThat(result.errors()).isEmpty();
+			assertThat(startOf(result, constrained)).isEqualTo(SECOND_SLOT);
+			assertThat(startOf(result, flexible)).isEqualTo(FIRST_SLOT);
+		}
+	}
+
+	@Test
+	void forwardCheckingKeepsRelatedLessonsApart() {
+		User teacher = teacher(1);
+		// Same teacher, same class room and same cohort, pairwise
+		Group first = group(1, course, teacher, classRoom(1), 1, 1);
+		Group second = group(2, course, teacher(2), classRoom(1), 2, 1);
+		Group third = group(3, course, teacher(3), classRoom(3), 2, 1);
+		Group fourth = group(4, course, teacher, classRoom(4), 3, 1);
+		ScheduleOccupancyIndex occupancy = new ScheduleOccupancyIndex();
+
+		GenerationResult result = generator.generate(context(List.of(first, second, third, fourth), occupancy, 7));
+
+		assertThat(result.errors()).isEmpty();
+		assertThat(startOf(result, first)).isNotEqualTo(startOf(result, second)).isNotEqualTo(startOf(result, fourth));
+		assertThat(startOf(result, second)).isNotEqualTo(startOf(result, third));
+
+		// Every placed lesson is taken in the occupancy of the context
+		for (Schedule schedule : result.schedules()) {
+			assertThat(occupancy.isAvailable(schedule)).isFalse();
+		}
+	}
+
+	@Test
+	void returnsThePartialResultWhenNoCompleteTimetableExists() {
+		User teacher = teacher(1);
+		Group first = group(1, course, teacher, classRoom(1), 1, 1);
+		Group second = group(2, course, teacher, classRoom(2), 2, 1);
+		Group third = group(3, course, teacher, classRoom(3), 3, 1);
+
+		GenerationResult result = generator.generate(context(List.of(first, second, third),
+				new ScheduleOccupancyIndex(), 3));
+
+		assertThat(result.schedules()).hasSize(2);
+		assertThat(result.errors()).singleElement()
+				.extracting(ScheduleGenerationError::message)
+				.isEqualTo("Scheduled only 0/1 credits");
+	}
+
+	@Test
+	void leavesOutLessonsWithoutAnyFreeSlot() {
+		Group blocked = group(1, course, teacher(1), classRoom(1), 1, 2);
+		Group free = group(2, course, teacher(2), classRoom(2), 2, 1);
+		ScheduleOccupancyIndex occupancy = new ScheduleOccupancyIndex();
+		Group other = group(100, course(2), blocked.getDiscipline().getTeacher(), classRoom(100), 1, 2);
+		occupancy.occupy(lesson(100L, other, semester, DayOfWeek.MONDAY, FIRST_SLOT, SECOND_SLOT));
+		occupancy.occupy(lesson(101L, other, semester, DayOfWeek.MONDAY, SECOND_SLOT, LocalTime.of(9, 40)));
+
+		GenerationResult result = generator.generate(context(List.of(blocked, free), occupancy, 1));
+
+		assertThat(result.schedules()).extracting(Schedule::getGroup).containsExactly(free);
+		assertThat(result.errors()).singleElement()
+				.extracting(ScheduleGenerationError::groupId)
+				.isEqualTo(blocked.getId());
+	}
+
+	@Test
+	void cancelledSearchReturnsTheBestAssignmentSoFar() {
+		Group group = group(1, course, teacher(1), classRoom(1), 1, 2);
+		GenerationContext context = context(List.of(group), new ScheduleOccupancyIndex(), 1);
+		context.monitor().cancel();
+
+		GenerationResult result = generator.generate(context);
+
+		assertThat(result.schedules()).isEmpty();
+		assertThat(result.errors()).hasSize(1);
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	/**
+	 * A single day with two slots.
+	 */
+	private GenerationContext context(List<Group> groups, ScheduleOccupancyIndex occupancy, long seed) {
+		return new GenerationContext(semester, timeSlot(course, FIRST_SLOT, LocalTime.of(9, 40)), groups,
+				List.of(DayOfWeek.MONDAY), List.of(FIRST_SLOT, SECOND_SLOT), occupancy, new Random(seed), null,
+				new GenerationMonitor(), null);
+	}
+
+	private static LocalTime startOf(GenerationResult result, Group group) {
+		return result.schedules().stream()
+				.filter(schedule -> schedule.getGroup() == group)
+				.map(Schedule::getStartTime)
+				.findFirst()
+				.orElseThrow();
+	}
+
+}
@@ -0,0 +1,110 @@
+package com.class_manager.backend.service.schedule;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.class_manager.backend.dto.model.schedule.ResourceConflictDto;
+import com.class_manager.backend.dto.model.schedule.ScannedLesson;
+import com.class_manager.backend.enums.ConflictType;
+
+class ConflictScannerTest {
+
+	private static final UUID TEACHER = new UUID(0L, 1L);
+
+	@Test
+	void sweepReportsEveryOverlappingPairOnce() {
+		// 1 overlaps 2 and 3, 2 overlaps 3, 4 only touches 3
+		List<ScannedLesson> lessons = List.of(
+				lesson(1L, 1L, TEACHER, 1L, DayOfWeek.MONDAY, 8, 0, 10, 0),
+				lesson(2L, 2L, TEACHER, 2L, DayOfWeek.MONDAY, 8, 30, 9, 20),
+				lesson(3L, 3L, TEACHER, 3L, DayOfWeek.MONDAY, 9, 0, 10, 30),
+				lesson(4L, 4L, TEACHER, 4L, DayOfWeek.MONDAY, 10, 30, 11, 20),
+				lesson(5L, 5L, TEACHER, 5L, DayOfWeek.TUESDAY, 8, 0, 10, 0));
+
+		List<ResourceConflictDto> conflicts = ConflictScanner.scan(lessons);
+
+		assertThat(conflicts).singleElement().satisfies(conflict -> {
+			assertThat(conflict.type()).isEqualTo(ConflictType.TEACHER);
+			assertThat(conflict.resourceId()).isEqualTo(TEACHER.toString());
+			assertThat(conflict.overlaps())
+					.extracting(overlap -> overlap.first().scheduleId(), overlap -> overlap.second().scheduleId())
+					.containsExactlyInAnyOrder(tuple(1L, 2L), tuple(1L, 3L), tuple(2L, 3L));
+		});
+	}
+
+	@Test
+	void reportsClassRoomAndGroupOverlaps() {
+		List<ScannedLesson> lessons = List.of(
+				lesson(1L, 1L, null, 7L, DayOfWeek.MONDAY, 8, 0, 8, 50),
+				lesson(2L, 2L, null, 7L, DayOfWeek.MONDAY, 8, 0, 8, 50),
+				lesson(3L, 1L, null, null, DayOfWeek.MONDAY, 8, 10, 9, 0));
+
+		assertThat(ConflictScanner.scan(lessons))
+				.extracting(ResourceConflictDto::type, ResourceConflictDto::resourceId,
+						conflict -> conflict.overlaps().size())
+				.containsExactly(tuple(ConflictType.CLASS_ROOM, "7", 1), tuple(ConflictType.GROUP, "1", 1));
+	}
+
+	@Test
+	void lessonEndingAtMidnightOverlapsUntilTheEndOfItsDay() {
+		List<ScannedLesson> lessons = List.of(
+				lesson(1L, 1L, TEACHER, 1L, DayOfWeek.MONDAY, 22, 30, 0, 0),
+				lesson(2L, 2L, TEACHER, 2L, DayOfWeek.MONDAY, 23, 0, 23, 50),
+				lesson(3L, 3L, TEACHER, 3L, DayOfWeek.TUESDAY, 0, 0, 0, 50));
+
+		assertThat(ConflictScanner.scan(lessons)).singleElement()
+				.satisfies(conflict -> assertThat(conflict.overlaps())
+						.extracting(overlap -> overlap.first().scheduleId(), overlap -> overlap.second().scheduleId())
+						.containsExactly(tuple(1L, 2L)));
+	}
+
+	@Test
+	void cohortSkipsLessonsOfTheSameGroup() {
+		List<ScannedLesson> lessons = List.of(
+				new ScannedLesson(1L, 1L, null, null, 3L, 2, DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(8, 50)),
+				new ScannedLesson(2L, 1L, null, null, 3L, 2, DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(8, 50)),
+				new ScannedLesson(3L, 2L, null, null, 3L, 2, DayOfWeek.MONDAY, LocalTime.of(8, 20), LocalTime.of(9, 10)),
+				// Same semester of another course, not the same cohort
+				new ScannedLesson(4L, 3L, null, null, 4L, 2, DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(8, 50)));
+
+		List<ResourceConflictDto> conflicts = ConflictScanner.scan(lessons);
+
+		assertThat(conflicts).filteredOn(conflict -> conflict.type() == ConflictType.GROUP)
+				.singleElement()
+				.extracting(conflict -> conflict.overlaps().size())
+				.isEqualTo(1);
+		assertThat(conflicts).filteredOn(conflict -> conflict.type() == ConflictType.COHORT)
+				.singleElement()
+				.satisfies(conflict -> {
+					assertThat(conflict.resourceId()).isEqualTo("3/2");
+					assertThat(conflict.overlaps())
+							.extracting(overlap -> overlap.first().scheduleId(), overlap -> overlap.second().scheduleId())
+							.containsExactlyInAnyOrder(tuple(1L, 3L), tuple(2L, 3L));
+				});
+	}
+
+	@Test
+	void lessonsWithoutSemesterOfCourseHaveNoCohort() {
+		List<ScannedLesson> lessons = List.of(
+				new ScannedLesson(1L, 1L, null, null, 3L, null, DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(8, 50)),
+				new ScannedLesson(2L, 2L, null, null, 3L, null, DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(8, 50)));
+
+		assertThat(ConflictScanner.scan(lessons)).isEmpty();
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private static ScannedLesson lesson(Long id, Long groupId, UUID teacherId, Long classRoomId, DayOfWeek day,
+			int startHour, int startMinute, int endHour, int endMinute) {
+		return new ScannedLesson(id, groupId, teacherId, classRoomId, null, null, day,
+				LocalTime.of(startHour, startMinute), LocalTime.of(endHour, endMinute));
+	}
+
+}
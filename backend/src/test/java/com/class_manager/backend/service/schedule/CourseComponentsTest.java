@@ -0,0 +1,58 @@
+package com.class_manager.backend.service.schedule;
+
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.classRoom;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.course;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.group;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.teacher;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.class_manager.backend.model.Group;
+
+class CourseComponentsTest {
+
+	@Test
+	void coursesWithoutSharedResourcesAreIndependent() {
+		Map<Long, List<Group>> groupsByCourse = new LinkedHashMap<>();
+		groupsByCourse.put(1L, List.of(group(1, course(1), teacher(1), classRoom(1), 1, 2)));
+		groupsByCourse.put(2L, List.of(group(2, course(2), teacher(2), classRoom(2), 1, 2)));
+
+		assertThat(CourseComponents.split(groupsByCourse)).containsExactly(List.of(1L), List.of(2L));
+	}
+
+	@Test
+	void sharedTeacherOrClassRoomJoinsCourses() {
+		Map<Long, List<Group>> groupsByCourse = new LinkedHashMap<>();
+		groupsByCourse.put(1L, List.of(group(1, course(1), teacher(1), classRoom(1), 1, 2)));
+		groupsByCourse.put(2L, List.of(group(2, course(2), teacher(1), classRoom(2), 1, 2)));
+		groupsByCourse.put(3L, List.of(group(3, course(3), teacher(3), classRoom(2), 1, 2)));
+		groupsByCourse.put(4L, List.of(group(4, course(4), teacher(4), classRoom(4), 1, 2)));
+
+		assertThat(CourseComponents.split(groupsByCourse)).containsExactly(List.of(1L, 2L, 3L), List.of(4L));
+	}
+
+	@Test
+	void componentsMergeTransitivelyInIterationOrder() {
+		// 5 and 1 are only joined through 3, after both started their own component
+		Map<Long, List<Group>> groupsByCourse = new LinkedHashMap<>();
+		groupsByCourse.put(5L, List.of(group(1, course(5), teacher(1), classRoom(1), 1, 2)));
+		groupsByCourse.put(2L, List.of(group(2, course(2), teacher(2), classRoom(2), 1, 2)));
+		groupsByCourse.put(1L, List.of(group(3, course(1), teacher(3), classRoom(3), 1, 2)));
+		groupsByCourse.put(3L, List.of(
+				group(4, course(3), teacher(1), classRoom(4), 1, 2),
+				group(5, course(3), teacher(5), classRoom(3), 1, 2)));
+
+		assertThat(CourseComponents.split(groupsByCourse)).containsExactly(List.of(5L, 1L, 3L), List.of(2L));
+	}
+
+	@Test
+	void emptyInputHasNoComponents() {
+		assertThat(CourseComponents.split(Map.of())).isEmpty();
+	}
+
+}
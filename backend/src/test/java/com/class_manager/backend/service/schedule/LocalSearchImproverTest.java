@@ -0,0 +1,120 @@
+package com.class_manager.backend.service.schedule;
+
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.classRoom;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.course;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.group;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.lesson;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.semester;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.teacher;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.timeSlot;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.class_manager.backend.model.Course;
+import com.class_manager.backend.model.Group;
+import com.class_manager.backend.model.Schedule;
+import com.class_manager.backend.model.Semester;
+import com.class_manager.backend.model.User;
+
+class LocalSearchImproverTest {
+
+	private static final List<DayOfWeek> DAYS = List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY);
+	private static final List<LocalTime> SLOTS = List.of(LocalTime.of(8, 0), LocalTime.of(8, 50),
+			LocalTime.of(9, 40), LocalTime.of(10, 30));
+
+	private final Semester semester = semester(1);
+	private final Course course = course(1);
+
+	@Test
+	void deltaEvaluationMatchesAFullEvaluation() {
+		for (long seed = 0; seed < 10; seed++) {
+			GenerationContext context = context(new ScheduleOccupancyIndex(), seed);
+			List<Schedule> lessons = crowdedTimetable(context);
+
+			LocalSearchImprover.Annealing annealing = new LocalSearchImprover.Annealing(context, lessons);
+			long initialCost = annealing.cost();
+			annealing.run(50);
+			annealing.apply();
+
+			// Built again from the applied placements, the cost is evaluated from scratch
+			assertThat(new LocalSearchImprover.Annealing(context, lessons).cost())
+					.isEqualTo(annealing.bestCost())
+					.isLessThan(initialCost);
+		}
+	}
+
+	@Test
+	void improvementKeepsTheTimetableFreeOfConflicts() {
+		ScheduleOccupancyIndex occupancy = new ScheduleOccupancyIndex();
+		// Pinned lesson of another course sharing the teacher of the first group
+		Group pinned = group(100, course(2), teacher(1), classRoom(100), 1, 1);
+		Schedule pinnedLesson = lesson(100L, pinned, semester, DayOfWeek.TUESDAY, SLOTS.get(0), SLOTS.get(1));
+		occupancy.occupy(pinnedLesson);
+
+		GenerationContext context = context(occupancy, 42);
+		List<Schedule> lessons = crowdedTimetable(context);
+
+		new LocalSearchImprover(0).improve(context, new GenerationResult(lessons, List.of()), 200L);
+
+		ScheduleOccupancyIndex check = new ScheduleOccupancyIndex();
+		check.occupy(pinnedLesson);
+
+		for (Schedule lesson : lessons) {
+			assertThat(DAYS).contains(lesson.getDayOfWeek());
+			assertThat(SLOTS).contains(lesson.getStartTime());
+			assertThat(check.findConflicts(lesson)).isEmpty();
+			check.occupy(lesson);
+		}
+
+		// The occupancy of the context holds the improved placements
+		for (Schedule lesson : lessons) {
+			assertThat(occupancy.isAvailable(lesson)).isFalse();
+		}
+	}
+
+	@Test
+	void zeroTimeLimitLeavesTheTimetableUntouched() {
+		GenerationContext context = context(new ScheduleOccupancyIndex(), 1);
+		List<Schedule> lessons = crowdedTimetable(context);
+		List<DayOfWeek> days = lessons.stream().map(Schedule::getDayOfWeek).toList();
+		List<LocalTime> starts = lessons.stream().map(Schedule::getStartTime).toList();
+
+		new LocalSearchImprover(0).improve(context, new GenerationResult(lessons, List.of()), null);
+
+		assertThat(lessons).extracting(Schedule::getDayOfWeek).isEqualTo(days);
+		assertThat(lessons).extracting(Schedule::getStartTime).isEqualTo(starts);
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private GenerationContext context(ScheduleOccupancyIndex occupancy, long seed) {
+		return new GenerationContext(semester, timeSlot(course, SLOTS.get(0), LocalTime.of(11, 20)), List.of(),
+				DAYS, SLOTS, occupancy, new Random(seed), null, new GenerationMonitor(), null);
+	}
+
+	/**
+	 * Two groups of two lessons each, mostly on Monday with idle slots between
+	 * the lessons of their shared teacher. Occupies the lessons in the context.
+	 */
+	private List<Schedule> crowdedTimetable(GenerationContext context) {
+		User teacher = teacher(1);
+		Group first = group(1, course, teacher, classRoom(1), 1, 2);
+		Group second = group(2, course, teacher, classRoom(2), 2, 2);
+		List<Schedule> lessons = new ArrayList<>();
+
+		lessons.add(context.newSchedule(first, DayOfWeek.MONDAY, SLOTS.get(0)));
+		lessons.add(context.newSchedule(first, DayOfWeek.MONDAY, SLOTS.get(3)));
+		lessons.add(context.newSchedule(second, DayOfWeek.MONDAY, SLOTS.get(1)));
+		lessons.add(context.newSchedule(second, DayOfWeek.WEDNESDAY, SLOTS.get(2)));
+		lessons.forEach(context.occupancy()::occupy);
+		return lessons;
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.class_manager.backend.service.schedule;
+
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.semester;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.class_manager.backend.model.Semester;
+import com.class_manager.backend.repository.ScheduleRepository;
+import com.class_manager.backend.service.SemesterService;
+import com.class_manager.backend.utils.SemesterUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class PublicTimetableCacheTest {
+
+	private static final long SEMESTER_ID = 1L;
+
+	private final SemesterService semesterService = mock(SemesterService.class);
+	private final ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+	private final PublicTimetableCache cache = new PublicTimetableCache(semesterService, scheduleRepository,
+			new ObjectMapper().findAndRegisterModules(), 3600);
+
+	PublicTimetableCacheTest() {
+		LocalDate now = LocalDate.now();
+		Semester semester = semester(SEMESTER_ID);
+		semester.setYear(now.getYear());
+		semester.setNumber(SemesterUtils.getSemesterNumber(now.getMonthValue()));
+
+		when(semesterService.findActualSemester()).thenReturn(semester);
+		when(scheduleRepository.findSchedulesBySemester(SEMESTER_ID)).thenReturn(List.of());
+	}
+
+	@Test
+	void servesTheSameSnapshotUntilAWriteCommits() {
+		PublicTimetableSnapshot first = cache.get();
+
+		assertThat(cache.get()).isSameAs(first);
+
+		cache.onScheduleChanged(new ScheduleChangedEvent(SEMESTER_ID));
+		PublicTimetableSnapshot rebuilt = cache.get();
+
+		assertThat(rebuilt).isNotSameAs(first);
+		assertThat(cache.get()).isSameAs(rebuilt);
+		verify(scheduleRepository, times(2)).findSchedulesBySemester(SEMESTER_ID);
+	}
+
+	@Test
+	void rebuildsAfterAWriteToAllSemesters() {
+		PublicTimetableSnapshot first = cache.get();
+
+		cache.onScheduleChanged(ScheduleChangedEvent.allSemesters());
+
+		assertThat(cache.get()).isNotSameAs(first);
+	}
+
+	@Test
+	void ignoresWritesToOtherSemesters() {
+		PublicTimetableSnapshot first = cache.get();
+
+		cache.onScheduleChanged(new ScheduleChangedEvent(SEMESTER_ID + 1));
+
+		assertThat(cache.get()).isSameAs(first);
+		verify(scheduleRepository, times(1)).findSchedulesBySemester(SEMESTER_ID);
+	}
+
+	@Test
+	void doesNotKeepASnapshotBuiltAcrossAWrite() {
+		// The write commits while the snapshot is being read
+		when(scheduleRepository.findSchedulesBySemester(SEMESTER_ID)).thenAnswer(invocation -> {
+			cache.onScheduleChanged(new ScheduleChangedEvent(SEMESTER_ID));
+			return List.of();
+		}).thenReturn(List.of());
+
+		PublicTimetableSnapshot acrossWrite = cache.get();
+		PublicTimetableSnapshot afterWrite = cache.get();
+
+		assertThat(afterWrite).isNotSameAs(acrossWrite);
+		assertThat(cache.get()).isSameAs(afterWrite);
+		verify(scheduleRepository, times(2)).findSchedulesBySemester(SEMESTER_ID);
+	}
+
+	@Test
+	void tagsThePlainAndGzippedBodiesApart() throws IOException {
+		PublicTimetableSnapshot snapshot = cache.get();
+
+		assertThat(snapshot.etag(false)).startsWith("\"").endsWith("\"");
+		assertThat(snapshot.etag(true)).startsWith("\"").endsWith("\"");
+		assertThat(snapshot.etag(true)).isNotEqualTo(snapshot.etag(false));
+
+		try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(snapshot.body(true)))) {
+			assertThat(gzip.readAllBytes()).isEqualTo(snapshot.body(false));
+		}
+	}
+
+}
@@ -0,0 +1,93 @@
+package com.class_manager.backend.service.schedule;
+
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.classRoom;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.course;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.group;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.semester;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.teacher;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.class_manager.backend.dto.model.schedule.LessonDto;
+import com.class_manager.backend.dto.model.schedule.LessonMoveDto;
+import com.class_manager.backend.dto.model.schedule.ScheduleDiffDto;
+import com.class_manager.backend.model.Group;
+import com.class_manager.backend.model.Schedule;
+import com.class_manager.backend.model.Semester;
+
+class ScheduleDiffTest {
+
+	private final Semester semester = semester(1);
+	private final Group group = group(1, course(1), teacher(1), classRoom(1), 1, 3);
+	private final Group otherGroup = group(2, course(1), teacher(2), classRoom(2), 2, 2);
+
+	@Test
+	void sameSlotIsUnchanged() {
+		ScheduleDiffDto diff = ScheduleDiff.of(
+				List.of(lesson(1L, group, DayOfWeek.MONDAY, 8), lesson(2L, group, DayOfWeek.TUESDAY, 8)),
+				List.of(lesson(null, group, DayOfWeek.TUESDAY, 8), lesson(null, group, DayOfWeek.MONDAY, 8)));
+
+		assertThat(diff.unchanged()).isEqualTo(2);
+		assertThat(diff.added()).isEmpty();
+		assertThat(diff.removed()).isEmpty();
+		assertThat(diff.moved()).isEmpty();
+	}
+
+	@Test
+	void remainingLessonsArePairedInChronologicalOrder() {
+		ScheduleDiffDto diff = ScheduleDiff.of(
+				List.of(lesson(2L, group, DayOfWeek.WEDNESDAY, 8), lesson(1L, group, DayOfWeek.MONDAY, 8),
+						lesson(3L, group, DayOfWeek.FRIDAY, 10)),
+				List.of(lesson(null, group, DayOfWeek.THURSDAY, 9), lesson(null, group, DayOfWeek.FRIDAY, 10),
+						lesson(null, group, DayOfWeek.TUESDAY, 9)));
+
+		assertThat(diff.unchanged()).isEqualTo(1);
+		assertThat(diff.moved())
+				.extracting(LessonMoveDto::scheduleId, LessonMoveDto::fromDayOfWeek, LessonMoveDto::dayOfWeek)
+				.containsExactly(
+						tuple(1L, DayOfWeek.MONDAY, DayOfWeek.TUESDAY),
+						tuple(2L, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY));
+		assertThat(diff.moved().get(0).startTime()).isEqualTo(LocalTime.of(9, 0));
+		assertThat(diff.moved().get(0).endTime()).isEqualTo(LocalTime.of(9, 50));
+	}
+
+	@Test
+	void leftoversAreAddedOrRemoved() {
+		ScheduleDiffDto diff = ScheduleDiff.of(
+				List.of(lesson(1L, group, DayOfWeek.MONDAY, 8), lesson(2L, group, DayOfWeek.TUESDAY, 8),
+						lesson(3L, otherGroup, DayOfWeek.MONDAY, 10)),
+				List.of(lesson(null, group, DayOfWeek.WEDNESDAY, 8), lesson(null, otherGroup, DayOfWeek.MONDAY, 10),
+						lesson(null, otherGroup, DayOfWeek.THURSDAY, 10)));
+
+		assertThat(diff.unchanged()).isEqualTo(1);
+		assertThat(diff.moved()).extracting(LessonMoveDto::scheduleId).containsExactly(1L);
+		assertThat(diff.removed()).extracting(LessonDto::scheduleId).containsExactly(2L);
+		assertThat(diff.added()).extracting(LessonDto::groupId, LessonDto::dayOfWeek)
+				.containsExactly(tuple(2L, DayOfWeek.THURSDAY));
+	}
+
+	@Test
+	void groupsOnlyOnOneSideAreFullyAddedOrRemoved() {
+		ScheduleDiffDto diff = ScheduleDiff.of(
+				List.of(lesson(1L, group, DayOfWeek.MONDAY, 8)),
+				List.of(lesson(null, otherGroup, DayOfWeek.MONDAY, 8)));
+
+		assertThat(diff.moved()).isEmpty();
+		assertThat(diff.removed()).extracting(LessonDto::scheduleId).containsExactly(1L);
+		assertThat(diff.added()).extracting(LessonDto::groupId).containsExactly(2L);
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private Schedule lesson(Long id, Group group, DayOfWeek day, int hour) {
+		LocalTime start = LocalTime.of(hour, 0);
+		return SchedulingFixtures.lesson(id, group, semester, day, start, start.plusMinutes(50));
+	}
+
+}
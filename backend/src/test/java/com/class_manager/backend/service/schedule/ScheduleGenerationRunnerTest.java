@@ -0,0 +1,89 @@
+package com.class_manager.backend.service.schedule;
+
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.course;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.semester;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.timeSlot;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.class_manager.backend.enums.GenerationEngine;
+import com.class_manager.backend.model.TimeSlot;
+
+class ScheduleGenerationRunnerTest {
+
+	private final ScheduleGenerationRunner runner = new ScheduleGenerationRunner(4);
+
+	@AfterEach
+	void shutdown() {
+		runner.shutdown();
+	}
+
+	@Test
+	void runCountsEveryAttemptAndKeepsTheFirstOfEqualScores() {
+		RecordingGenerator generator = new RecordingGenerator();
+		GenerationMonitor monitor = new GenerationMonitor();
+
+		GenerationOutcome outcome = runner.run(generator, context(monitor), 4, 7L);
+
+		assertThat(outcome.seed()).isEqualTo(7L);
+		assertThat(monitor.getTotalAttempts()).isEqualTo(4);
+		assertThat(monitor.getCompletedAttempts()).isEqualTo(4);
+	}
+
+	@Test
+	void attemptsOfARunStartedOnThePoolRunOnTheCallingThread() {
+		RecordingGenerator generator = new RecordingGenerator();
+		List<Callable<Thread>> tasks = List.of(
+				() -> {
+					runner.run(generator, context(new GenerationMonitor()), 8, 1L);
+					return Thread.currentThread();
+				},
+				() -> {
+					runner.run(generator, context(new GenerationMonitor()), 8, 2L);
+					return Thread.currentThread();
+				});
+
+		List<Thread> taskThreads = runner.runAll(tasks);
+
+		assertThat(generator.threads).containsExactlyInAnyOrderElementsOf(Set.copyOf(taskThreads));
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private static GenerationContext context(GenerationMonitor monitor) {
+		TimeSlot timeSlot = timeSlot(course(1), LocalTime.of(8, 0), LocalTime.of(12, 0));
+
+		return new GenerationContext(semester(1), timeSlot, List.of(), List.copyOf(timeSlot.getDaysOfWeek()),
+				List.of(LocalTime.of(8, 0)), new ScheduleOccupancyIndex(), new Random(0), null, monitor, null);
+	}
+
+	/**
+	 * Generates nothing, remembering the threads it ran on.
+	 */
+	private static final class RecordingGenerator implements ScheduleGenerator {
+
+		private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public GenerationEngine engine() {
+			return GenerationEngine.GREEDY;
+		}
+
+		@Override
+		public GenerationResult generate(GenerationContext context) {
+			threads.add(Thread.currentThread());
+			return new GenerationResult(List.of(), List.of());
+		}
+
+	}
+
+}
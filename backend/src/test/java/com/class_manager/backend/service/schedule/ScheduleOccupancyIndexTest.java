@@ -0,0 +1,147 @@
+package com.class_manager.backend.service.schedule;
+
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.classRoom;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.course;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.group;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.lesson;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.semester;
+import static com.class_manager.backend.service.schedule.SchedulingFixtures.teacher;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.class_manager.backend.dto.model.schedule.OccupiedSlot;
+import com.class_manager.backend.enums.ConflictType;
+import com.class_manager.backend.model.ClassRoom;
+import com.class_manager.backend.model.Course;
+import com.class_manager.backend.model.Group;
+import com.class_manager.backend.model.Schedule;
+import com.class_manager.backend.model.Semester;
+import com.class_manager.backend.model.User;
+
+class ScheduleOccupancyIndexTest {
+
+	private static final LocalTime EIGHT = LocalTime.of(8, 0);
+	private static final LocalTime EIGHT_FIFTY = LocalTime.of(8, 50);
+
+	private final Semester semester = semester(1);
+	private final Course course = course(1);
+	private final User teacher = teacher(1);
+	private final ClassRoom classRoom = classRoom(1);
+	private final Group group = group(1, course, teacher, classRoom, 1, 4);
+
+	@Test
+	void lessonTakesItsTeacherClassRoomGroupAndCohort() {
+		ScheduleOccupancyIndex index = new ScheduleOccupancyIndex();
+		index.occupy(lesson(1L, group, semester, DayOfWeek.MONDAY, EIGHT, EIGHT_FIFTY));
+
+		Group sameTeacher = group(2, course(2), teacher, classRoom(2), 1, 4);
+		Group sameClassRoom = group(3, course(2), teacher(2), classRoom, 1, 4);
+		Group sameCohort = group(4, course, teacher(3), classRoom(3), 1, 4);
+		Group otherCohort = group(5, course, teacher(4), classRoom(4), 2, 4);
+
+		assertThat(index.findConflicts(lesson(null, group, semester, DayOfWeek.MONDAY, EIGHT, EIGHT_FIFTY)))
+				.containsExactlyInAnyOrder(ConflictType.TEACHER, ConflictType.CLASS_ROOM, ConflictType.GROUP);
+		assertThat(index.findConflicts(lesson(null, sameTeacher, semester, DayOfWeek.MONDAY, EIGHT, EIGHT_FIFTY)))
+				.containsExactly(ConflictType.TEACHER);
+		assertThat(index.findConflicts(lesson(null, sameClassRoom, semester, DayOfWeek.MONDAY, EIGHT, EIGHT_FIFTY)))
+				.containsExactly(ConflictType.CLASS_ROOM);
+		assertThat(index.findConflicts(lesson(null, sameCohort, semester, DayOfWeek.MONDAY, EIGHT, EIGHT_FIFTY)))
+				.containsExactly(ConflictType.COHORT);
+		assertThat(index.isAvailable(lesson(null, otherCohort, semester, DayOfWeek.MONDAY, EIGHT, EIGHT_FIFTY)))
+				.isTrue();
+	}
+
+	@Test
+	void adjacentLessonsAndOtherDaysAreFree() {
+		ScheduleOccupancyIndex index = new ScheduleOccupancyIndex();
+		index.occupy(lesson(1L, group, semester, DayOfWeek.MONDAY, EIGHT, EIGHT_FIFTY));
+
+		assertThat(index.isAvailable(lesson(null, group, semester, DayOfWeek.MONDAY, EIGHT_FIFTY,
+				LocalTime.of(9, 40)))).isTrue();
+		assertThat(index.isAvailable(lesson(null, group, semester, DayOfWeek.MONDAY, LocalTime.of(7, 10),
+				EIGHT))).isTrue();
+		assertThat(index.isAvailable(lesson(null, group, semester, DayOfWeek.TUESDAY, EIGHT, EIGHT_FIFTY)))
+				.isTrue();
+		assertThat(index.isAvailable(lesson(null, group, semester, DayOfWeek.MONDAY, LocalTime.of(8, 49),
+				LocalTime.of(9, 39)))).isFalse();
+	}
+
+	@Test
+	void releaseFreesTheSlot() {
+		ScheduleOccupancyIndex index = new ScheduleOccupancyIndex();
+		Schedule schedule = lesson(1L, group, semester, DayOfWeek.MONDAY, EIGHT, EIGHT_FIFTY);
+
+		index.occupy(schedule);
+		index.release(schedule);
+
+		assertThat(index.isAvailable(schedule)).isTrue();
+	}
+
+	@Test
+	void copyIsIndependentOfTheSource() {
+		ScheduleOccupancyIndex index = new ScheduleOccupancyIndex();
+		ScheduleOccupancyIndex copy = index.copy();
+		Schedule schedule = lesson(1L, group, semester, DayOfWeek.MONDAY, EIGHT, EIGHT_FIFTY);
+
+		copy.occupy(schedule);
+
+		assertThat(index.isAvailable(schedule)).isTrue();
+		assertThat(copy.isAvailable(schedule)).isFalse();
+	}
+
+	@Test
+	void slotsWithoutCohortOnlyTakeTheirResources() {
+		ScheduleOccupancyIndex index = ScheduleOccupancyIndex.of(List.of(new OccupiedSlot(1L, 9L, null, null,
+				course.getId(), null, DayOfWeek.MONDAY, EIGHT, EIGHT_FIFTY)));
+
+		assertThat(index.isAvailable(lesson(null, group, semester, DayOfWeek.MONDAY, EIGHT, EIGHT_FIFTY)))
+				.isTrue();
+		assertThat(index.isGroupAvailable(9L, DayOfWeek.MONDAY, EIGHT, EIGHT_FIFTY)).isFalse();
+	}
+
+	@Test
+	void occupiedMinutesMergesEveryResource() {
+		ScheduleOccupancyIndex index = new ScheduleOccupancyIndex();
+		index.occupy(lesson(1L, group(2, course, teacher, classRoom(2), 2, 4), semester, DayOfWeek.MONDAY, EIGHT,
+				EIGHT_FIFTY));
+		index.occupy(lesson(2L, group(3, course, teacher(2), classRoom(3), 1, 4), semester, DayOfWeek.MONDAY,
+				LocalTime.of(10, 0), LocalTime.of(10, 50)));
+
+		BitSet minutes = index.occupiedMinutes(teacher.getId(), classRoom.getId(), group.getId(), Cohort.of(group),
+				DayOfWeek.MONDAY);
+
+		assertThat(ScheduleOccupancyIndex.isFree(minutes, EIGHT, EIGHT_FIFTY)).isFalse();
+		assertThat(ScheduleOccupancyIndex.isFree(minutes, LocalTime.of(10, 0), LocalTime.of(10, 50))).isFalse();
+		assertThat(ScheduleOccupancyIndex.isFree(minutes, EIGHT_FIFTY, LocalTime.of(10, 0))).isTrue();
+
+		ScheduleOccupancyIndex.clear(minutes, EIGHT, EIGHT_FIFTY);
+
+		assertThat(ScheduleOccupancyIndex.isFree(minutes, EIGHT, EIGHT_FIFTY)).isTrue();
+	}
+
+	@Test
+	void lessonEndingAtMidnightTakesTheEndOfItsDay() {
+		ScheduleOccupancyIndex index = new ScheduleOccupancyIndex();
+		Schedule lastLesson = lesson(1L, group, semester, DayOfWeek.MONDAY, LocalTime.of(23, 10), LocalTime.MIDNIGHT);
+
+		index.occupy(lastLesson);
+
+		assertThat(index.isAvailable(lesson(null, group, semester, DayOfWeek.MONDAY, LocalTime.of(23, 50),
+				LocalTime.of(23, 55)))).isFalse();
+		assertThat(index.isAvailable(lesson(null, group, semester, DayOfWeek.TUESDAY, LocalTime.MIDNIGHT,
+				LocalTime.of(0, 50)))).isTrue();
+		assertThat(index.isAvailable(lesson(null, group, semester, DayOfWeek.MONDAY, LocalTime.of(22, 20),
+				LocalTime.of(23, 10)))).isTrue();
+
+		index.release(lastLesson);
+
+		assertThat(index.isAvailable(lastLesson)).isTrue();
+	}
+
+}
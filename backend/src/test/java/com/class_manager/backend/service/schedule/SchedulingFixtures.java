@@ -0,0 +1,105 @@
+package com.class_manager.backend.service.schedule;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.UUID;
+
+import com.class_manager.backend.enums.SemesterStatus;
+import com.class_manager.backend.model.ClassRoom;
+import com.class_manager.backend.model.Course;
+import com.class_manager.backend.model.Discipline;
+import com.class_manager.backend.model.Group;
+import com.class_manager.backend.model.Schedule;
+import com.class_manager.backend.model.Semester;
+import com.class_manager.backend.model.TimeSlot;
+import com.class_manager.backend.model.User;
+
+/**
+ * Entities for the scheduling tests, with ids assigned as if they came from
+ * the database.
+ */
+public final class SchedulingFixtures {
+
+	private SchedulingFixtures() {
+	}
+
+	public static Semester semester(long id) {
+		Semester semester = new Semester();
+		semester.setId(id);
+		semester.setName("SEMESTRE-2025/" + id);
+		semester.setYear(2025);
+		semester.setNumber((int) id);
+		semester.setStartDate(LocalDate.of(2025, 1, 1));
+		semester.setEndDate(LocalDate.of(2025, 6, 30));
+		semester.setStatus(SemesterStatus.ACTIVE);
+		return semester;
+	}
+
+	public static User teacher(long id) {
+		User teacher = new User();
+		teacher.setId(new UUID(0L, id));
+		teacher.setName("Teacher");
+		teacher.setSurname(String.valueOf(id));
+		return teacher;
+	}
+
+	public static ClassRoom classRoom(long id) {
+		ClassRoom classRoom = new ClassRoom();
+		classRoom.setId(id);
+		classRoom.setName("Room " + id);
+		return classRoom;
+	}
+
+	public static Course course(long id) {
+		Course course = new Course();
+		course.setId(id);
+		course.setName("Course " + id);
+		return course;
+	}
+
+	/**
+	 * A TimeSlot from Monday to Friday, with 50 minute lessons.
+	 */
+	public static TimeSlot timeSlot(Course course, LocalTime start, LocalTime end) {
+		TimeSlot timeSlot = new TimeSlot();
+		timeSlot.setCourse(course);
+		timeSlot.setDaysOfWeek(EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+		timeSlot.setLessonDurationMinutes(50);
+		timeSlot.setStartTime(start);
+		timeSlot.setEndTime(end);
+		return timeSlot;
+	}
+
+	public static Group group(long id, Course course, User teacher, ClassRoom classRoom, Integer semesterOfCourse,
+			int credits) {
+		Discipline discipline = new Discipline();
+		discipline.setId(id);
+		discipline.setName("Discipline " + id);
+		discipline.setCredits(credits);
+		discipline.setCourse(course);
+		discipline.setTeacher(teacher);
+
+		Group group = new Group();
+		group.setId(id);
+		group.setName("Group " + id);
+		group.setSemesterOfCourse(semesterOfCourse);
+		group.setDiscipline(discipline);
+		group.setClassRoom(classRoom);
+		return group;
+	}
+
+	public static Schedule lesson(Long id, Group group, Semester semester, DayOfWeek day, LocalTime start,
+			LocalTime end) {
+		Schedule schedule = new Schedule();
+		schedule.setId(id);
+		schedule.setGroup(group);
+		schedule.setSemester(semester);
+		schedule.setDayOfWeek(day);
+		schedule.setStartTime(start);
+		schedule.setEndTime(end);
+		return schedule;
+	}
+
+}
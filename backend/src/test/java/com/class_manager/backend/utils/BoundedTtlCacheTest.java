@@ -0,0 +1,104 @@
+package com.class_manager.backend.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class BoundedTtlCacheTest {
+
+	@Test
+	void cachedValueIsReturnedUntilItExpires() {
+		AtomicInteger loads = new AtomicInteger();
+		BoundedTtlCache<String, Integer> cache = new BoundedTtlCache<>(10, 1, TimeUnit.HOURS);
+
+		assertThat(cache.get("a", key -> loads.incrementAndGet())).isEqualTo(1);
+		assertThat(cache.get("a", key -> loads.incrementAndGet())).isEqualTo(1);
+		assertThat(cache.stats()).isEqualTo(new BoundedTtlCache.Stats(1, 1, 1));
+
+		BoundedTtlCache<String, Integer> expiring = new BoundedTtlCache<>(10, 0, TimeUnit.NANOSECONDS);
+
+		assertThat(expiring.get("a", key -> loads.incrementAndGet())).isEqualTo(2);
+		assertThat(expiring.get("a", key -> loads.incrementAndGet())).isEqualTo(3);
+	}
+
+	@Test
+	void leastRecentlyUsedEntryIsDroppedBeyondTheMaximumSize() {
+		BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(2, 1, TimeUnit.HOURS);
+		cache.get("a", key -> "a1");
+		cache.get("b", key -> "b1");
+		cache.get("a", key -> "a2");
+		cache.get("c", key -> "c1");
+
+		assertThat(cache.get("a", key -> "a3")).isEqualTo("a1");
+		assertThat(cache.get("b", key -> "b2")).isEqualTo("b2");
+		assertThat(cache.stats().size()).isEqualTo(2);
+	}
+
+	@Test
+	void nullValuesAreNotCached() {
+		BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10, 1, TimeUnit.HOURS);
+
+		assertThat(cache.get("a", key -> null)).isNull();
+		assertThat(cache.get("a", key -> "a1")).isEqualTo("a1");
+	}
+
+	@Test
+	void invalidationDropsMatchingEntries() {
+		BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10, 1, TimeUnit.HOURS);
+		cache.get("a", key -> "old");
+		cache.get("b", key -> "keep");
+
+		cache.invalidateIf("old"::equals);
+
+		assertThat(cache.get("a", key -> "new")).isEqualTo("new");
+		assertThat(cache.get("b", key -> "other")).isEqualTo("keep");
+
+		cache.invalidateAll();
+
+		assertThat(cache.stats().size()).isZero();
+	}
+
+	@Test
+	void valueLoadedAcrossAnInvalidationIsReturnedButNotCached() throws Exception {
+		BoundedTtlCache<String, String> cache = new BoundedTtlCache<>(10, 1, TimeUnit.HOURS);
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch invalidated = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+			Future<String> slowLoad = executor.submit(() -> cache.get("a", key -> {
+				loading.countDown();
+				await(invalidated);
+				return "stale";
+			}));
+
+			loading.await(5, TimeUnit.SECONDS);
+			cache.invalidate("a");
+			invalidated.countDown();
+
+			assertThat(slowLoad.get(5, TimeUnit.SECONDS)).isEqualTo("stale");
+			assertThat(cache.get("a", key -> "fresh")).isEqualTo("fresh");
+			assertThat(cache.get("a", key -> "newer")).isEqualTo("fresh");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	// ──────────────────────── Private Methods ──────────────────────── //
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -19,7 +19,7 @@ export default function ScheduleItem({
     data: {
       type: 'schedule',
       scheduleId: schedule.id,
-      groupId: schedule.group.id,
+      groupId: schedule.groupId,
     },
     disabled: !draggable,
   });
@@ -57,7 +57,7 @@ export default function ScheduleItem({
       }
     : {};
 
-  const colorClasses = getColorClasses(schedule.group?.color);
+  const colorClasses = getColorClasses(schedule.groupColor);
 
   return (
     <div
@@ -91,26 +91,26 @@ export default function ScheduleItem({
 
       <div className="flex flex-col justify-between pr-2 h-28 overflow-hidden">
         {/* Nova linha para mostrar o curso quando necessário */}
-          {showCourse && schedule.group?.discipline?.course && (
+          {showCourse && schedule.courseAbbreviation && (
             <p className="text-xs text-gray-500 break-words mt-1">
-              {schedule.group.discipline.course.abbreviation}
+              {schedule.courseAbbreviation}
             </p>
           )}
         <div>
           <h4 className="font-medium text-sm flex-1 break-words text-gray-900 dark:text-gray-900">
-            {schedule.group?.abbreviation}
+            {schedule.groupAbbreviation}
           </h4>
           <p className="text-xs text-gray-600 break-words">
-            {schedule.group?.name}
+            {schedule.groupName}
           </p>
         </div>
         <p className="text-xs text-gray-500 break-words">
-          {schedule.group?.classRoom?.abbreviation}
+          {schedule.classRoomAbbreviation}
         </p>
 
         {!showCourse && (
           <p className="mt-2 text-xs text-gray-500 break-words">
-            {schedule.group?.discipline?.teacher?.fullName}
+            {schedule.teacherFullName}
           </p>
         )}
       </div>
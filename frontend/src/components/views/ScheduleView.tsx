@@ -28,6 +28,7 @@ import {
   generateTimeSlots,
   getColorClasses,
   getTranslatedErrorMessage,
+  toScheduleItem,
 } from '@/utils/Helpers';
 
 import {
@@ -514,7 +515,7 @@ export function ScheduleView({ userType }: { userType: UserTypeEnum }) {
     }
 
     return schedules.filter((schedule) =>
-      selectedCustomCheckboxSemesters.includes(schedule.group?.semesterOfCourse)
+      selectedCustomCheckboxSemesters.includes(schedule.semesterOfCourse)
     );
   };
 
@@ -559,7 +560,7 @@ export function ScheduleView({ userType }: { userType: UserTypeEnum }) {
       });
 
       toast.success('Horários copiados com sucesso!');
-      setSchedules(response.data);
+      setSchedules(response.data.map(toScheduleItem));
     } catch (error) {
       console.error('Error copying the schedules:', error);
 
@@ -602,7 +603,7 @@ export function ScheduleView({ userType }: { userType: UserTypeEnum }) {
 
       const { generatedSchedules, errors } = response.data;
 
-      setSchedules(generatedSchedules);
+      setSchedules(generatedSchedules.map(toScheduleItem));
       toast.success(
         `${generatedSchedules.length} Horários gerados automaticamente com sucesso!`
       );
@@ -753,9 +754,11 @@ export function ScheduleView({ userType }: { userType: UserTypeEnum }) {
         body
       );
 
+      const savedSchedule = toScheduleItem(response.data);
+
       setSchedules((prev) => {
-        if (isNew) return [...prev, response.data];
-        return prev.map((s) => (s.id === response.data.id ? response.data : s));
+        if (isNew) return [...prev, savedSchedule];
+        return prev.map((s) => (s.id === savedSchedule.id ? savedSchedule : s));
       });
 
       setActiveId(null);
@@ -1058,27 +1061,24 @@ export function ScheduleView({ userType }: { userType: UserTypeEnum }) {
             ) : (
               <div
                 className={`${
-                  getColorClasses((activeItem as IScheduleItem).group?.color)
+                  getColorClasses((activeItem as IScheduleItem).groupColor)
                     .bgClass
                 } border-l-4 ${
-                  getColorClasses((activeItem as IScheduleItem).group?.color)
+                  getColorClasses((activeItem as IScheduleItem).groupColor)
                     .borderClass
                 } p-2 rounded shadow-lg`}
               >
                 <h4 className="font-medium text-sm">
-                  {(activeItem as IScheduleItem).group?.abbreviation}
+                  {(activeItem as IScheduleItem).groupAbbreviation}
                 </h4>
                 <p className="text-xs text-gray-600">
-                  {(activeItem as IScheduleItem).group?.name}
+                  {(activeItem as IScheduleItem).groupName}
                 </p>
                 <p className="text-xs text-gray-500">
-                  {(activeItem as IScheduleItem).group?.classRoom?.abbreviation}
+                  {(activeItem as IScheduleItem).classRoomAbbreviation}
                 </p>
                 <p className="mt-2 text-xs text-gray-500">
-                  {
-                    (activeItem as IScheduleItem).group?.discipline?.teacher
-                      ?.fullName
-                  }
+                  {(activeItem as IScheduleItem).teacherFullName}
                 </p>
               </div>
             )
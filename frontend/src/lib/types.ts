@@ -58,32 +58,22 @@ export interface IScheduleItem {
   dayOfWeek: string;
   startTime: string;
   endTime: string;
-  group: {
-    id: number;
-    name: string;
-    abbreviation: string;
-    color: string;
-    semesterOfCourse: number;
-    discipline: {
-      id: number;
-      name: string;
-      abbreviation: string;
-      teacher: {
-        fullName: string;
-      };
-      course: {
-        name: string;
-        abbreviation: string;
-      }
-    };
-    classRoom: {
-      id: number;
-      abbreviation: string;
-    };
-  };
-  semester: {
-    id: number;
-  };
+  semesterId: number;
+  groupId: number;
+  groupName: string;
+  groupAbbreviation: string;
+  groupColor: string;
+  semesterOfCourse: number;
+  disciplineId: number;
+  disciplineName: string;
+  disciplineAbbreviation: string;
+  courseId: number;
+  courseName: string;
+  courseAbbreviation: string;
+  teacherId: string | null;
+  teacherFullName: string | null;
+  classRoomId: number | null;
+  classRoomAbbreviation: string | null;
 }
 
 export interface DefaultFormProps {
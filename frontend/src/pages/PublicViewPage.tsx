@@ -11,8 +11,7 @@ import {
   SelectValue,
 } from '@/components/ui/select';
 import ScheduleTable from '@/components/schedule-table';
-import type { IScheduleItem } from '@/lib/types';
-import { DAY_ORDER, generateTimeSlots } from '@/utils/Helpers';
+import { DAY_ORDER, generateTimeSlots, toScheduleItem } from '@/utils/Helpers';
 import { toast } from 'sonner';
 import api from '@/lib/api';
 import { useTheme } from '@/context/ThemeContext';
@@ -77,7 +76,11 @@ interface GroupWithDetails {
   };
 }
 
-interface ScheduleItemWithDetails extends IScheduleItem {
+interface ScheduleItemWithDetails {
+  id: number;
+  dayOfWeek: string;
+  startTime: string;
+  endTime: string;
   group: GroupWithDetails;
   semester: {
     id: number;
@@ -206,9 +209,9 @@ export default function PublicScheduleView() {
 
   // Filtrar horários com base no curso selecionado
   const filteredSchedules = selectedCourseId
-    ? schedules.filter(
-        (item) => item.group.discipline.course.id === selectedCourseId
-      )
+    ? schedules
+        .filter((item) => item.group.discipline.course.id === selectedCourseId)
+        .map(toScheduleItem)
     : [];
 
   if (loading) {
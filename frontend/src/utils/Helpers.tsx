@@ -1,6 +1,7 @@
 import { useState } from "react";
 import html2canvas from 'html2canvas-pro';
 import jsPDF from 'jspdf';
+import { IScheduleItem } from '@/lib/types';
 
 export const requiredFieldMessage = "Este campo é obrigatório";
 
@@ -60,6 +61,30 @@ export const formatTimeSlot = (startTime: string, endTime: string) => {
   return `${format(startTime)}-${format(endTime)}`;
 };
 
+// Converts a schedule returned by the write endpoints to the flat shape of the listing endpoints
+export const toScheduleItem = (schedule: any): IScheduleItem => ({
+  id: schedule.id,
+  dayOfWeek: schedule.dayOfWeek,
+  startTime: schedule.startTime,
+  endTime: schedule.endTime,
+  semesterId: schedule.semester?.id,
+  groupId: schedule.group.id,
+  groupName: schedule.group.name,
+  groupAbbreviation: schedule.group.abbreviation,
+  groupColor: schedule.group.color,
+  semesterOfCourse: schedule.group.semesterOfCourse,
+  disciplineId: schedule.group.discipline.id,
+  disciplineName: schedule.group.discipline.name,
+  disciplineAbbreviation: schedule.group.discipline.abbreviation,
+  courseId: schedule.group.discipline.course.id,
+  courseName: schedule.group.discipline.course.name,
+  courseAbbreviation: schedule.group.discipline.course.abbreviation,
+  teacherId: schedule.group.discipline.teacher?.id ?? null,
+  teacherFullName: schedule.group.discipline.teacher?.fullName ?? null,
+  classRoomId: schedule.group.classRoom?.id ?? null,
+  classRoomAbbreviation: schedule.group.classRoom?.abbreviation ?? null,
+});
+
 export const getTranslatedErrorMessage  = (originalErrorMessage: string) => {
   const mappedErrors: Record<string, string> = {
     'Teacher already has a lesson scheduled for this time': 'O professor já tem uma aula agendada para esse horário',